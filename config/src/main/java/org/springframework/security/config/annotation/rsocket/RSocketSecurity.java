@@ -16,6 +16,7 @@
 
 package org.springframework.security.config.annotation.rsocket;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -317,6 +318,8 @@ public class RSocketSecurity {
 
 		private ReactiveAuthenticationManager authenticationManager;
 
+		private Duration connectionAuthenticationTimeToLive = Duration.ZERO;
+
 		private JwtSpec() {
 		}
 
@@ -325,6 +328,21 @@ public class RSocketSecurity {
 			return this;
 		}
 
+		/**
+		 * Reuses the result of authenticating a bearer token for later payloads of the
+		 * same connection presenting the same token, until the time to live has passed
+		 * or the token has expired. The default is {@link Duration#ZERO}, which
+		 * authenticates every payload.
+		 * @param connectionAuthenticationTimeToLive the time to live to use
+		 * @return the {@link JwtSpec} for further customization
+		 * @since 6.2
+		 * @see AuthenticationPayloadInterceptor#setConnectionAuthenticationTimeToLive(Duration)
+		 */
+		public JwtSpec connectionAuthenticationTimeToLive(Duration connectionAuthenticationTimeToLive) {
+			this.connectionAuthenticationTimeToLive = connectionAuthenticationTimeToLive;
+			return this;
+		}
+
 		private ReactiveAuthenticationManager getAuthenticationManager() {
 			if (this.authenticationManager != null) {
 				return this.authenticationManager;
@@ -342,9 +360,11 @@ public class RSocketSecurity {
 			AuthenticationPayloadInterceptor legacy = new AuthenticationPayloadInterceptor(manager);
 			legacy.setAuthenticationConverter(new BearerPayloadExchangeConverter());
 			legacy.setOrder(PayloadInterceptorOrder.AUTHENTICATION.getOrder());
+			legacy.setConnectionAuthenticationTimeToLive(this.connectionAuthenticationTimeToLive);
 			AuthenticationPayloadInterceptor standard = new AuthenticationPayloadInterceptor(manager);
 			standard.setAuthenticationConverter(new AuthenticationPayloadExchangeConverter());
 			standard.setOrder(PayloadInterceptorOrder.AUTHENTICATION.getOrder());
+			standard.setConnectionAuthenticationTimeToLive(this.connectionAuthenticationTimeToLive);
 			return Arrays.asList(standard, legacy);
 		}
 
@@ -17,6 +17,8 @@
 package org.springframework.security.access.expression.method;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,6 +45,7 @@ import org.springframework.security.authentication.AuthenticationTrustResolverIm
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.parameters.DefaultSecurityParameterNameDiscoverer;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * The standard implementation of {@code MethodSecurityExpressionHandler}.
@@ -63,6 +66,10 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 
 	private ParameterNameDiscoverer parameterNameDiscoverer = new DefaultSecurityParameterNameDiscoverer();
 
+	private static final String[] NO_PARAMETER_NAMES = new String[0];
+
+	private final CachingParameterNameDiscoverer cachingParameterNameDiscoverer = new CachingParameterNameDiscoverer();
+
 	private PermissionCacheOptimizer permissionCacheOptimizer = null;
 
 	private String defaultRolePrefix = "ROLE_";
@@ -76,14 +83,14 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 	 */
 	@Override
 	public StandardEvaluationContext createEvaluationContextInternal(Authentication auth, MethodInvocation mi) {
-		return new MethodSecurityEvaluationContext(auth, mi, getParameterNameDiscoverer());
+		return new MethodSecurityEvaluationContext(auth, mi, this.cachingParameterNameDiscoverer);
 	}
 
 	@Override
 	public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation mi) {
 		MethodSecurityExpressionOperations root = createSecurityExpressionRoot(authentication, mi);
 		MethodSecurityEvaluationContext ctx = new MethodSecurityEvaluationContext(root, mi,
-				getParameterNameDiscoverer());
+				this.cachingParameterNameDiscoverer);
 		ctx.setBeanResolver(getBeanResolver());
 		return ctx;
 	}
@@ -222,11 +229,13 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 
 	/**
 	 * Sets the {@link ParameterNameDiscoverer} to use. The default is
-	 * {@link DefaultSecurityParameterNameDiscoverer}.
+	 * {@link DefaultSecurityParameterNameDiscoverer}. The parameter names discovered for
+	 * each method are cached.
 	 * @param parameterNameDiscoverer
 	 */
 	public void setParameterNameDiscoverer(ParameterNameDiscoverer parameterNameDiscoverer) {
 		this.parameterNameDiscoverer = parameterNameDiscoverer;
+		this.cachingParameterNameDiscoverer.clear();
 	}
 
 	/**
@@ -271,4 +280,33 @@ public class DefaultMethodSecurityExpressionHandler extends AbstractSecurityExpr
 		return this.defaultRolePrefix;
 	}
 
+	/**
+	 * Caches the parameter names of the methods evaluated by this handler, since
+	 * discovering them requires reflection and annotation lookups that would otherwise be
+	 * repeated for every invocation.
+	 */
+	private final class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+		private final Map<Method, String[]> parameterNames = new ConcurrentReferenceHashMap<>();
+
+		@Override
+		public String[] getParameterNames(Method method) {
+			String[] names = this.parameterNames.computeIfAbsent(method, (m) -> {
+				String[] discovered = getParameterNameDiscoverer().getParameterNames(m);
+				return (discovered != null) ? discovered : NO_PARAMETER_NAMES;
+			});
+			return (names != NO_PARAMETER_NAMES) ? names : null;
+		}
+
+		@Override
+		public String[] getParameterNames(Constructor<?> ctor) {
+			return getParameterNameDiscoverer().getParameterNames(ctor);
+		}
+
+		void clear() {
+			this.parameterNames.clear();
+		}
+
+	}
+
 }
@@ -17,15 +17,18 @@
 package org.springframework.security.access.expression.method;
 
 import java.lang.reflect.Method;
+import java.util.Map;
 
 import org.aopalliance.intercept.MethodInvocation;
 
 import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.MethodClassKey;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.parameters.DefaultSecurityParameterNameDiscoverer;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Internal security-specific EvaluationContext implementation which lazily adds the
@@ -39,6 +42,8 @@ import org.springframework.security.core.parameters.DefaultSecurityParameterName
  */
 class MethodSecurityEvaluationContext extends MethodBasedEvaluationContext {
 
+	private static final Map<MethodClassKey, Method> specificMethods = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Intended for testing. Don't use in practice as it creates a new parameter resolver
 	 * for each instance. Use the constructor which takes the resolver, as an argument
@@ -59,7 +64,10 @@ class MethodSecurityEvaluationContext extends MethodBasedEvaluationContext {
 	}
 
 	private static Method getSpecificMethod(MethodInvocation mi) {
-		return AopUtils.getMostSpecificMethod(mi.getMethod(), AopProxyUtils.ultimateTargetClass(mi.getThis()));
+		Method method = mi.getMethod();
+		Class<?> targetClass = AopProxyUtils.ultimateTargetClass(mi.getThis());
+		return specificMethods.computeIfAbsent(new MethodClassKey(method, targetClass),
+				(key) -> AopUtils.getMostSpecificMethod(method, targetClass));
 	}
 
 }
@@ -16,6 +16,12 @@
 
 package org.springframework.security.authentication.dao;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.core.log.LogMessage;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -60,6 +66,10 @@ public class DaoAuthenticationProvider extends AbstractUserDetailsAuthentication
 
 	private UserDetailsPasswordService userDetailsPasswordService;
 
+	private Executor passwordUpgradeExecutor;
+
+	private final Set<String> pendingPasswordUpgrades = ConcurrentHashMap.newKeySet();
+
 	public DaoAuthenticationProvider() {
 		this(PasswordEncoderFactories.createDelegatingPasswordEncoder());
 	}
@@ -126,12 +136,45 @@ public class DaoAuthenticationProvider extends AbstractUserDetailsAuthentication
 				&& this.passwordEncoder.upgradeEncoding(user.getPassword());
 		if (upgradeEncoding) {
 			String presentedPassword = authentication.getCredentials().toString();
-			String newPassword = this.passwordEncoder.encode(presentedPassword);
-			user = this.userDetailsPasswordService.updatePassword(user, newPassword);
+			if (this.passwordUpgradeExecutor != null) {
+				upgradePasswordAsync(user, presentedPassword);
+			}
+			else {
+				String newPassword = this.passwordEncoder.encode(presentedPassword);
+				user = this.userDetailsPasswordService.updatePassword(user, newPassword);
+			}
 		}
 		return super.createSuccessAuthentication(principal, authentication, user);
 	}
 
+	private void upgradePasswordAsync(UserDetails user, String presentedPassword) {
+		String username = user.getUsername();
+		if (!this.pendingPasswordUpgrades.add(username)) {
+			return;
+		}
+		try {
+			this.passwordUpgradeExecutor.execute(() -> {
+				try {
+					String newPassword = this.passwordEncoder.encode(presentedPassword);
+					this.userDetailsPasswordService.updatePassword(user, newPassword);
+				}
+				catch (RuntimeException ex) {
+					this.logger.debug(LogMessage.format("Failed to upgrade password encoding for user '%s'", username),
+							ex);
+				}
+				finally {
+					this.pendingPasswordUpgrades.remove(username);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.pendingPasswordUpgrades.remove(username);
+			this.logger.debug(
+					LogMessage.format("Skipped password encoding upgrade for user '%s' since it was rejected", username),
+					ex);
+		}
+	}
+
 	private void prepareTimingAttackProtection() {
 		if (this.userNotFoundEncodedPassword == null) {
 			this.userNotFoundEncodedPassword = this.passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
@@ -174,4 +217,21 @@ public class DaoAuthenticationProvider extends AbstractUserDetailsAuthentication
 		this.userDetailsPasswordService = userDetailsPasswordService;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to upgrade password encodings in the background.
+	 * When set, the new password is encoded and handed to the
+	 * {@link UserDetailsPasswordService} on this {@link Executor} instead of on the
+	 * authenticating thread, so a successful login only pays for a single hash. At most
+	 * one upgrade per username is in flight at a time and upgrades rejected by the
+	 * {@link Executor} are skipped, to be retried on the next successful login. Use a
+	 * bounded {@link Executor} to limit the work queued during a migration. The default
+	 * is to upgrade synchronously.
+	 * @param passwordUpgradeExecutor the {@link Executor} to use, or {@code null} to
+	 * upgrade synchronously
+	 * @since 6.2
+	 */
+	public void setPasswordUpgradeExecutor(Executor passwordUpgradeExecutor) {
+		this.passwordUpgradeExecutor = passwordUpgradeExecutor;
+	}
+
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.authorization.method;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.log.LogMessage;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * An {@link AuthorizationManager} which remembers the decisions of a delegate
+ * {@link AuthorizationManager} for the duration of a unit of work, such as a transaction,
+ * so that invoking the same method with the same arguments for the same
+ * {@link Authentication} again does not re-evaluate the delegate. This can collapse
+ * repeated {@link org.springframework.security.access.PermissionEvaluator} lookups made
+ * by nested service calls into one.
+ *
+ * <p>
+ * Decisions are keyed by the method, the target object, the arguments (compared using
+ * {@code equals}) and the {@link Authentication} instance. Memoizing is only correct when
+ * the delegate's decision depends on nothing else and does not change within the unit of
+ * work, so no invocation is memoized until the invocations whose expressions are free of
+ * side effects are selected using {@link #setMemoizable(Predicate)}, for example using a
+ * custom {@code @Pure} annotation:
+ *
+ * <pre>
+ * manager.setMemoizable((mi) -&gt; mi.getMethod().isAnnotationPresent(Pure.class));
+ * </pre>
+ *
+ * <p>
+ * Since an argument could be modified after a decision was made, only invocations whose
+ * arguments are all {@code null}, {@link String}s, primitive wrappers, {@link Enum}s or
+ * {@link UUID}s are memoized. Other invocations are always passed to the delegate.
+ *
+ * <p>
+ * By default, decisions are remembered for the current transaction, using Spring's
+ * {@link TransactionSynchronizationManager}, and not remembered at all outside of one. A
+ * different unit of work, for example the current request, can be used by supplying the
+ * {@link Map} to store its decisions in with {@link #setDecisionStore(Supplier)}.
+ *
+ * <p>
+ * The number of memoized decisions that were reused and of those that had to be made by
+ * the delegate are available from {@link #getHitCount()} and {@link #getMissCount()},
+ * for example to register them with a metrics registry.
+ *
+ * @since 6.2
+ */
+public final class MemoizingMethodAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+	private static final boolean transactionSynchronizationPresent = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			MemoizingMethodAuthorizationManager.class.getClassLoader());
+
+	private static final Set<Class<?>> IMMUTABLE_ARGUMENT_TYPES = Set.of(String.class, Boolean.class,
+			Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+			UUID.class);
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final AuthorizationManager<MethodInvocation> delegate;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private Supplier<Map<Object, AuthorizationDecision>> decisionStore = () -> transactionDecisionStore();
+
+	private Predicate<MethodInvocation> memoizable = (mi) -> false;
+
+	/**
+	 * Creates a new instance memoizing the decisions of the given delegate.
+	 * @param delegate the {@link AuthorizationManager} to delegate to
+	 */
+	public MemoizingMethodAuthorizationManager(AuthorizationManager<MethodInvocation> delegate) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		this.delegate = delegate;
+	}
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation mi) {
+		Map<Object, AuthorizationDecision> decisions = this.decisionStore.get();
+		if (decisions == null || !this.memoizable.test(mi) || !hasImmutableArguments(mi)) {
+			return this.delegate.check(authentication, mi);
+		}
+		Authentication resolved;
+		try {
+			resolved = authentication.get();
+		}
+		catch (AuthenticationException ex) {
+			return this.delegate.check(authentication, mi);
+		}
+		DecisionKey key = new DecisionKey(this.delegate, mi, resolved);
+		if (decisions.containsKey(key)) {
+			this.hits.increment();
+			this.logger.trace(LogMessage.format("Reusing authorization decision for %s", mi.getMethod()));
+			return decisions.get(key);
+		}
+		this.misses.increment();
+		AuthorizationDecision decision = this.delegate.check(() -> resolved, mi);
+		decisions.put(key, decision);
+		return decision;
+	}
+
+	/**
+	 * Sets the {@link Supplier} of the {@link Map} that decisions of the current unit of
+	 * work are stored in. The {@link Supplier} should return the same {@link Map} for the
+	 * whole unit of work, or {@code null} when no unit of work is active, in which case
+	 * decisions are not memoized. The {@link Map} must not be shared between threads
+	 * unless it is thread-safe, and should be discarded once the unit of work ends.
+	 * Defaults to a {@link Map} bound to the current transaction.
+	 * @param decisionStore the {@link Supplier} to use
+	 */
+	public void setDecisionStore(Supplier<Map<Object, AuthorizationDecision>> decisionStore) {
+		Assert.notNull(decisionStore, "decisionStore cannot be null");
+		this.decisionStore = decisionStore;
+	}
+
+	/**
+	 * Sets the {@link Predicate} deciding which invocations may have their decision
+	 * memoized. It should only match invocations whose authorization expressions are free
+	 * of side effects. Invocations not matching are always passed to the delegate.
+	 * Defaults to memoizing no invocations.
+	 * @param memoizable the {@link Predicate} to use
+	 */
+	public void setMemoizable(Predicate<MethodInvocation> memoizable) {
+		Assert.notNull(memoizable, "memoizable cannot be null");
+		this.memoizable = memoizable;
+	}
+
+	/**
+	 * Returns the number of decisions which were reused from the current unit of work
+	 * @return the number of reused decisions
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * Returns the number of memoizable decisions which were not yet known in the current
+	 * unit of work and so were made by the delegate
+	 * @return the number of decisions made by the delegate
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	private static boolean hasImmutableArguments(MethodInvocation mi) {
+		for (Object argument : mi.getArguments()) {
+			if (argument != null && !(argument instanceof Enum<?>)
+					&& !IMMUTABLE_ARGUMENT_TYPES.contains(argument.getClass())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Map<Object, AuthorizationDecision> transactionDecisionStore() {
+		if (!transactionSynchronizationPresent) {
+			return null;
+		}
+		return TransactionDecisionStore.getDecisions();
+	}
+
+	private static final class TransactionDecisionStore {
+
+		private static final Object RESOURCE_KEY = TransactionDecisionStore.class.getName() + ".DECISIONS";
+
+		@SuppressWarnings("unchecked")
+		private static Map<Object, AuthorizationDecision> getDecisions() {
+			if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+				return null;
+			}
+			Object decisions = TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+			if (decisions != null) {
+				return (Map<Object, AuthorizationDecision>) decisions;
+			}
+			Map<Object, AuthorizationDecision> created = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(RESOURCE_KEY, created);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+				}
+
+			});
+			return created;
+		}
+
+	}
+
+	private static final class DecisionKey {
+
+		private final AuthorizationManager<MethodInvocation> manager;
+
+		private final Method method;
+
+		private final Object target;
+
+		private final Object[] arguments;
+
+		private final Authentication authentication;
+
+		private final int hashCode;
+
+		private DecisionKey(AuthorizationManager<MethodInvocation> manager, MethodInvocation mi,
+				Authentication authentication) {
+			this.manager = manager;
+			this.method = mi.getMethod();
+			this.target = mi.getThis();
+			this.arguments = mi.getArguments().clone();
+			this.authentication = authentication;
+			int result = System.identityHashCode(manager);
+			result = 31 * result + this.method.hashCode();
+			result = 31 * result + System.identityHashCode(this.target);
+			result = 31 * result + Arrays.hashCode(this.arguments);
+			result = 31 * result + System.identityHashCode(authentication);
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof DecisionKey other)) {
+				return false;
+			}
+			return this.manager == other.manager && this.target == other.target
+					&& this.authentication == other.authentication && this.method.equals(other.method)
+					&& Arrays.equals(this.arguments, other.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+
+	}
+
+}
@@ -38,6 +38,8 @@ abstract class AbstractDelegatingSecurityContextSupport {
 
 	private final SecurityContext securityContext;
 
+	private boolean threadPerTask;
+
 	/**
 	 * Creates a new {@link AbstractDelegatingSecurityContextSupport} that uses the
 	 * specified {@link SecurityContext}.
@@ -55,14 +57,56 @@ abstract class AbstractDelegatingSecurityContextSupport {
 		this.securityContextHolderStrategy = securityContextHolderStrategy;
 	}
 
+	/**
+	 * Indicates that every task is run on a new thread, which has no
+	 * {@link SecurityContext} to restore once the task completes. The context is then
+	 * simply cleared after the task instead.
+	 * @param threadPerTask whether each task is run on a new thread
+	 */
+	void setThreadPerTask(boolean threadPerTask) {
+		this.threadPerTask = threadPerTask;
+	}
+
 	protected final Runnable wrap(Runnable delegate) {
+		if (this.threadPerTask) {
+			Assert.notNull(delegate, "delegate cannot be null");
+			SecurityContextHolderStrategy strategy = this.securityContextHolderStrategy;
+			SecurityContext context = resolveSecurityContext();
+			return () -> {
+				strategy.setContext(context);
+				try {
+					delegate.run();
+				}
+				finally {
+					strategy.clearContext();
+				}
+			};
+		}
 		return DelegatingSecurityContextRunnable.create(delegate, this.securityContext,
 				this.securityContextHolderStrategy);
 	}
 
 	protected final <T> Callable<T> wrap(Callable<T> delegate) {
+		if (this.threadPerTask) {
+			Assert.notNull(delegate, "delegate cannot be null");
+			SecurityContextHolderStrategy strategy = this.securityContextHolderStrategy;
+			SecurityContext context = resolveSecurityContext();
+			return () -> {
+				strategy.setContext(context);
+				try {
+					return delegate.call();
+				}
+				finally {
+					strategy.clearContext();
+				}
+			};
+		}
 		return DelegatingSecurityContextCallable.create(delegate, this.securityContext,
 				this.securityContextHolderStrategy);
 	}
 
+	private SecurityContext resolveSecurityContext() {
+		return (this.securityContext != null) ? this.securityContext : this.securityContextHolderStrategy.getContext();
+	}
+
 }
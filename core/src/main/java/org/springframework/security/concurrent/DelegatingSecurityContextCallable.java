@@ -146,10 +146,11 @@ public final class DelegatingSecurityContextCallable<V> implements Callable<V> {
 			SecurityContextHolderStrategy securityContextHolderStrategy) {
 		Assert.notNull(delegate, "delegate cannot be null");
 		Assert.notNull(securityContextHolderStrategy, "securityContextHolderStrategy cannot be null");
+		// resolve the current context only once, using the supplied strategy
 		DelegatingSecurityContextCallable<V> callable = (securityContext != null)
 				? new DelegatingSecurityContextCallable<>(delegate, securityContext)
-				: new DelegatingSecurityContextCallable<>(delegate);
-		callable.setSecurityContextHolderStrategy(securityContextHolderStrategy);
+				: new DelegatingSecurityContextCallable<>(delegate, securityContextHolderStrategy.getContext(), false);
+		callable.securityContextHolderStrategy = securityContextHolderStrategy;
 		return callable;
 	}
 
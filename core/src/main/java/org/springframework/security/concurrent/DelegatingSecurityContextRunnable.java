@@ -144,10 +144,11 @@ public final class DelegatingSecurityContextRunnable implements Runnable {
 			SecurityContextHolderStrategy securityContextHolderStrategy) {
 		Assert.notNull(delegate, "delegate cannot be  null");
 		Assert.notNull(securityContextHolderStrategy, "securityContextHolderStrategy cannot be null");
+		// resolve the current context only once, using the supplied strategy
 		DelegatingSecurityContextRunnable runnable = (securityContext != null)
 				? new DelegatingSecurityContextRunnable(delegate, securityContext)
-				: new DelegatingSecurityContextRunnable(delegate);
-		runnable.setSecurityContextHolderStrategy(securityContextHolderStrategy);
+				: new DelegatingSecurityContextRunnable(delegate, securityContextHolderStrategy.getContext(), false);
+		runnable.securityContextHolderStrategy = securityContextHolderStrategy;
 		return runnable;
 	}
 
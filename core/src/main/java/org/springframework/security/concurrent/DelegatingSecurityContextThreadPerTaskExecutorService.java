@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * A {@link DelegatingSecurityContextExecutorService} for an {@link ExecutorService} that
+ * runs every task on a new thread, such as the virtual thread per task executor
+ * available on JDK 21.
+ *
+ * <p>
+ * Since such a thread has no {@link SecurityContext} of its own, each {@link Runnable}
+ * and {@link Callable} is wrapped in a lightweight task that only sets the
+ * {@link SecurityContext} before and clears it after the delegate runs, without looking
+ * up and restoring the previous {@link SecurityContext} as
+ * {@link DelegatingSecurityContextRunnable} and {@link DelegatingSecurityContextCallable}
+ * do. This must not be used with an {@link ExecutorService} that may reuse threads or run
+ * tasks on the submitting thread, since any {@link SecurityContext} present on that
+ * thread would be cleared.
+ * </p>
+ *
+ * @since 6.2
+ */
+public final class DelegatingSecurityContextThreadPerTaskExecutorService
+		extends DelegatingSecurityContextExecutorService {
+
+	/**
+	 * Creates a new {@link DelegatingSecurityContextThreadPerTaskExecutorService} that
+	 * uses the specified {@link SecurityContext}.
+	 * @param delegateExecutorService the {@link ExecutorService} to delegate to, running
+	 * each task on a new thread. Cannot be null.
+	 * @param securityContext the {@link SecurityContext} to use for each task or null to
+	 * default to the current {@link SecurityContext}
+	 */
+	public DelegatingSecurityContextThreadPerTaskExecutorService(ExecutorService delegateExecutorService,
+			SecurityContext securityContext) {
+		super(delegateExecutorService, securityContext);
+		setThreadPerTask(true);
+	}
+
+	/**
+	 * Creates a new {@link DelegatingSecurityContextThreadPerTaskExecutorService} that
+	 * uses the current {@link SecurityContext} from the {@link SecurityContextHolder} at
+	 * the time the task is submitted.
+	 * @param delegate the {@link ExecutorService} to delegate to, running each task on a
+	 * new thread. Cannot be null.
+	 */
+	public DelegatingSecurityContextThreadPerTaskExecutorService(ExecutorService delegate) {
+		this(delegate, null);
+	}
+
+}
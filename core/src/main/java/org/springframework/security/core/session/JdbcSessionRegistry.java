@@ -0,0 +1,251 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.core.session;
+
+import java.security.Principal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.log.LogMessage;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.support.JdbcDaoSupport;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.SpringSecurityCoreVersion;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.Assert;
+
+/**
+ * JDBC based implementation of {@link SessionRegistry}, which allows the sessions of a
+ * principal to be shared between all nodes of a cluster so that concurrent session
+ * control works behind a load balancer.
+ * <p>
+ * Principals are stored by name, so the {@link SessionInformation#getPrincipal()
+ * principal} of the returned {@link SessionInformation} is the principal's name rather
+ * than the original object. Calling {@link SessionInformation#expireNow()} on a returned
+ * {@link SessionInformation} marks the session as expired for all nodes.
+ * <p>
+ * Each call to {@link #refreshLastRequest(String)} writes the last request time of the
+ * session. To avoid a database write on every request, set
+ * {@code ConcurrentSessionFilter#setLastRequestRefreshInterval}, which compares the
+ * interval to the last request time stored here and so throttles the writes consistently
+ * across nodes. Sessions which were
+ * never destroyed, for example because a node was stopped, can be removed with
+ * {@link #removeInactiveSessionInformation(Duration)}.
+ * <p>
+ * As with {@link SessionRegistryImpl}, an <tt>HttpSessionEventPublisher</tt> must be
+ * registered so that this class is notified of sessions that are destroyed.
+ *
+ * @since 6.2
+ * @see SessionRegistryImpl
+ */
+public class JdbcSessionRegistry extends JdbcDaoSupport
+		implements SessionRegistry, ApplicationListener<AbstractSessionEvent> {
+
+	/** Default SQL for creating the database table to store the sessions */
+	public static final String CREATE_TABLE_SQL = "create table spring_security_sessions (session_id varchar(100) primary key, "
+			+ "principal_name varchar(100) not null, last_request timestamp not null, expired_at timestamp null)";
+
+	/** Default SQL for creating the index used to look up the sessions of a principal */
+	public static final String CREATE_INDEX_SQL = "create index ix_spring_security_sessions_principal on spring_security_sessions (principal_name)";
+
+	/** The default SQL used by <tt>getSessionInformation</tt> */
+	public static final String DEF_SESSION_BY_ID_SQL = "select session_id, principal_name, last_request, expired_at from spring_security_sessions where session_id = ?";
+
+	/** The default SQL used by <tt>getAllSessions</tt> */
+	public static final String DEF_SESSIONS_BY_PRINCIPAL_SQL = "select session_id, principal_name, last_request, expired_at from spring_security_sessions where principal_name = ?";
+
+	/** The default SQL used by <tt>getAllPrincipals</tt> */
+	public static final String DEF_PRINCIPALS_SQL = "select distinct principal_name from spring_security_sessions";
+
+	/** The default SQL used by <tt>registerNewSession</tt> */
+	public static final String DEF_INSERT_SESSION_SQL = "insert into spring_security_sessions (session_id, principal_name, last_request) values (?, ?, ?)";
+
+	/** The default SQL used by <tt>refreshLastRequest</tt> */
+	public static final String DEF_UPDATE_LAST_REQUEST_SQL = "update spring_security_sessions set last_request = ? where session_id = ?";
+
+	/** The default SQL used when a session is expired */
+	public static final String DEF_EXPIRE_SESSION_SQL = "update spring_security_sessions set expired_at = ? where session_id = ?";
+
+	/** The default SQL used when a session id changes */
+	public static final String DEF_UPDATE_SESSION_ID_SQL = "update spring_security_sessions set session_id = ? where session_id = ?";
+
+	/** The default SQL used by <tt>removeSessionInformation</tt> */
+	public static final String DEF_REMOVE_SESSION_SQL = "delete from spring_security_sessions where session_id = ?";
+
+	/** The default SQL used by <tt>removeInactiveSessionInformation</tt> */
+	public static final String DEF_REMOVE_INACTIVE_SESSIONS_SQL = "delete from spring_security_sessions where last_request < ?";
+
+	private final RowMapper<SessionInformation> sessionInformationMapper = this::createSessionInformation;
+
+	private Clock clock = Clock.systemUTC();
+
+	private boolean createTableOnStartup;
+
+	@Override
+	protected void initDao() {
+		if (this.createTableOnStartup) {
+			getJdbcTemplate().execute(CREATE_TABLE_SQL);
+			getJdbcTemplate().execute(CREATE_INDEX_SQL);
+		}
+	}
+
+	@Override
+	public List<Object> getAllPrincipals() {
+		return new ArrayList<>(getJdbcTemplate().queryForList(DEF_PRINCIPALS_SQL, String.class));
+	}
+
+	@Override
+	public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
+		List<SessionInformation> sessions = getJdbcTemplate().query(DEF_SESSIONS_BY_PRINCIPAL_SQL,
+				this.sessionInformationMapper, getPrincipalName(principal));
+		if (!includeExpiredSessions) {
+			sessions.removeIf(SessionInformation::isExpired);
+		}
+		return sessions;
+	}
+
+	@Override
+	public SessionInformation getSessionInformation(String sessionId) {
+		Assert.hasText(sessionId, "SessionId required as per interface contract");
+		List<SessionInformation> sessions = getJdbcTemplate().query(DEF_SESSION_BY_ID_SQL,
+				this.sessionInformationMapper, sessionId);
+		return sessions.isEmpty() ? null : sessions.get(0);
+	}
+
+	@Override
+	public void onApplicationEvent(AbstractSessionEvent event) {
+		if (event instanceof SessionDestroyedEvent sessionDestroyedEvent) {
+			removeSessionInformation(sessionDestroyedEvent.getId());
+		}
+		else if (event instanceof SessionIdChangedEvent sessionIdChangedEvent) {
+			String oldSessionId = sessionIdChangedEvent.getOldSessionId();
+			String newSessionId = sessionIdChangedEvent.getNewSessionId();
+			getJdbcTemplate().update(DEF_UPDATE_SESSION_ID_SQL, newSessionId, oldSessionId);
+		}
+	}
+
+	@Override
+	public void refreshLastRequest(String sessionId) {
+		Assert.hasText(sessionId, "SessionId required as per interface contract");
+		getJdbcTemplate().update(DEF_UPDATE_LAST_REQUEST_SQL, new Date(this.clock.millis()), sessionId);
+	}
+
+	@Override
+	public void registerNewSession(String sessionId, Object principal) {
+		Assert.hasText(sessionId, "SessionId required as per interface contract");
+		Assert.notNull(principal, "Principal required as per interface contract");
+		removeSessionInformation(sessionId);
+		this.logger.debug(LogMessage.format("Registering session %s, for principal %s", sessionId, principal));
+		getJdbcTemplate().update(DEF_INSERT_SESSION_SQL, sessionId, getPrincipalName(principal),
+				new Date(this.clock.millis()));
+	}
+
+	@Override
+	public void removeSessionInformation(String sessionId) {
+		Assert.hasText(sessionId, "SessionId required as per interface contract");
+		getJdbcTemplate().update(DEF_REMOVE_SESSION_SQL, sessionId);
+	}
+
+	/**
+	 * Removes the information of all sessions, on all nodes, which have not been used for
+	 * longer than the provided interval. This is intended to be invoked periodically to
+	 * remove sessions which were never destroyed, and the interval should be longer than
+	 * both the session timeout and any interval used to throttle
+	 * {@link #refreshLastRequest(String)}.
+	 * @param maxInactiveInterval the time after which an unused session is removed
+	 * @return the number of sessions removed
+	 */
+	public int removeInactiveSessionInformation(Duration maxInactiveInterval) {
+		Assert.notNull(maxInactiveInterval, "maxInactiveInterval cannot be null");
+		Date lastRequestBefore = new Date(this.clock.millis() - maxInactiveInterval.toMillis());
+		int removed = getJdbcTemplate().update(DEF_REMOVE_INACTIVE_SESSIONS_SQL, lastRequestBefore);
+		this.logger.debug(LogMessage.format("Removed %d sessions not used since %s", removed, lastRequestBefore));
+		return removed;
+	}
+
+	private void expireSession(String sessionId) {
+		getJdbcTemplate().update(DEF_EXPIRE_SESSION_SQL, new Date(this.clock.millis()), sessionId);
+	}
+
+	private SessionInformation createSessionInformation(ResultSet rs, int rowNum) throws SQLException {
+		return new JdbcSessionInformation(this, rs.getString(2), rs.getString(1), rs.getTimestamp(3),
+				rs.getTimestamp(4) != null);
+	}
+
+	private static String getPrincipalName(Object principal) {
+		if (principal instanceof UserDetails userDetails) {
+			return userDetails.getUsername();
+		}
+		if (principal instanceof AuthenticatedPrincipal authenticatedPrincipal) {
+			return authenticatedPrincipal.getName();
+		}
+		if (principal instanceof Principal namedPrincipal) {
+			return namedPrincipal.getName();
+		}
+		return principal.toString();
+	}
+
+	/**
+	 * Sets the {@link Clock} used for the last request time of sessions
+	 * @param clock the {@link Clock} to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Intended for convenience in debugging. Will create the spring_security_sessions
+	 * database table when the class is initialized during the initDao method.
+	 * @param createTableOnStartup set to true to create the table
+	 */
+	public void setCreateTableOnStartup(boolean createTableOnStartup) {
+		this.createTableOnStartup = createTableOnStartup;
+	}
+
+	private static final class JdbcSessionInformation extends SessionInformation {
+
+		private static final long serialVersionUID = SpringSecurityCoreVersion.SERIAL_VERSION_UID;
+
+		private final transient JdbcSessionRegistry registry;
+
+		private JdbcSessionInformation(JdbcSessionRegistry registry, String principal, String sessionId,
+				Date lastRequest, boolean expired) {
+			super(principal, sessionId, lastRequest);
+			if (expired) {
+				super.expireNow();
+			}
+			this.registry = registry;
+		}
+
+		@Override
+		public void expireNow() {
+			super.expireNow();
+			if (this.registry != null) {
+				this.registry.expireSession(getSessionId());
+			}
+		}
+
+	}
+
+}
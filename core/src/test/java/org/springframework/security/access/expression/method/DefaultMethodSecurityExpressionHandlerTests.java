@@ -16,6 +16,7 @@
 
 package org.springframework.security.access.expression.method;
 
+import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.TypedValue;
@@ -39,6 +41,7 @@ import org.springframework.security.access.expression.SecurityExpressionRoot;
 import org.springframework.security.authentication.AuthenticationTrustResolver;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -187,11 +190,32 @@ public class DefaultMethodSecurityExpressionHandlerTests {
 		verify(mockAuthenticationSupplier).get();
 	}
 
+	@Test
+	public void createEvaluationContextWhenSameMethodThenParameterNamesDiscoveredOnce() {
+		Method method = ReflectionUtils.findMethod(Foo.class, "baz", String.class);
+		given(this.methodInvocation.getThis()).willReturn(new Foo());
+		given(this.methodInvocation.getMethod()).willReturn(method);
+		given(this.methodInvocation.getArguments()).willReturn(new Object[] { "value" });
+		ParameterNameDiscoverer parameterNameDiscoverer = mock(ParameterNameDiscoverer.class);
+		given(parameterNameDiscoverer.getParameterNames(method)).willReturn(new String[] { "name" });
+		this.handler.setParameterNameDiscoverer(parameterNameDiscoverer);
+		Expression expression = this.handler.getExpressionParser().parseExpression("#name == 'value'");
+		for (int i = 0; i < 3; i++) {
+			EvaluationContext context = this.handler.createEvaluationContext(this.authentication,
+					this.methodInvocation);
+			assertThat(expression.getValue(context, Boolean.class)).isTrue();
+		}
+		verify(parameterNameDiscoverer).getParameterNames(method);
+	}
+
 	static class Foo {
 
 		void bar() {
 		}
 
+		void baz(String name) {
+		}
+
 	}
 
 }
@@ -19,6 +19,7 @@ package org.springframework.security.authentication.dao;
 import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.Test;
 
@@ -59,8 +60,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
@@ -287,6 +290,81 @@ public class DaoAuthenticationProviderTests {
 		verify(passwordManager).updatePassword(eq(user), eq(encodedPassword));
 	}
 
+	@Test
+	public void authenticateWhenUpgradeAndPasswordUpgradeExecutorThenUpdatesOnExecutor() {
+		String password = "password";
+		String encodedPassword = "encoded";
+		UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.unauthenticated("user",
+				password);
+		PasswordEncoder encoder = mock(PasswordEncoder.class);
+		UserDetailsService userDetailsService = mock(UserDetailsService.class);
+		UserDetailsPasswordService passwordManager = mock(UserDetailsPasswordService.class);
+		List<Runnable> tasks = new ArrayList<>();
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setPasswordEncoder(encoder);
+		provider.setUserDetailsService(userDetailsService);
+		provider.setUserDetailsPasswordService(passwordManager);
+		provider.setPasswordUpgradeExecutor(tasks::add);
+		UserDetails user = PasswordEncodedUser.user();
+		given(encoder.matches(any(), any())).willReturn(true);
+		given(encoder.upgradeEncoding(any())).willReturn(true);
+		given(encoder.encode(any())).willReturn(encodedPassword);
+		given(userDetailsService.loadUserByUsername(any())).willReturn(user);
+		Authentication result = provider.authenticate(token);
+		assertThat(result.getPrincipal()).isEqualTo(user);
+		verify(encoder, never()).encode(any());
+		verifyNoInteractions(passwordManager);
+		assertThat(tasks).hasSize(1);
+		tasks.get(0).run();
+		verify(encoder).encode(password);
+		verify(passwordManager).updatePassword(eq(user), eq(encodedPassword));
+	}
+
+	@Test
+	public void authenticateWhenUpgradeAlreadyPendingThenNotScheduledAgain() {
+		PasswordEncoder encoder = mock(PasswordEncoder.class);
+		UserDetailsService userDetailsService = mock(UserDetailsService.class);
+		UserDetailsPasswordService passwordManager = mock(UserDetailsPasswordService.class);
+		List<Runnable> tasks = new ArrayList<>();
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setPasswordEncoder(encoder);
+		provider.setUserDetailsService(userDetailsService);
+		provider.setUserDetailsPasswordService(passwordManager);
+		provider.setPasswordUpgradeExecutor(tasks::add);
+		UserDetails user = PasswordEncodedUser.user();
+		given(encoder.matches(any(), any())).willReturn(true);
+		given(encoder.upgradeEncoding(any())).willReturn(true);
+		given(userDetailsService.loadUserByUsername(any())).willReturn(user);
+		provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", "password"));
+		provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", "password"));
+		assertThat(tasks).hasSize(1);
+		tasks.get(0).run();
+		provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user", "password"));
+		assertThat(tasks).hasSize(2);
+	}
+
+	@Test
+	public void authenticateWhenPasswordUpgradeRejectedThenAuthenticates() {
+		PasswordEncoder encoder = mock(PasswordEncoder.class);
+		UserDetailsService userDetailsService = mock(UserDetailsService.class);
+		UserDetailsPasswordService passwordManager = mock(UserDetailsPasswordService.class);
+		DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		provider.setPasswordEncoder(encoder);
+		provider.setUserDetailsService(userDetailsService);
+		provider.setUserDetailsPasswordService(passwordManager);
+		provider.setPasswordUpgradeExecutor((task) -> {
+			throw new RejectedExecutionException();
+		});
+		UserDetails user = PasswordEncodedUser.user();
+		given(encoder.matches(any(), any())).willReturn(true);
+		given(encoder.upgradeEncoding(any())).willReturn(true);
+		given(userDetailsService.loadUserByUsername(any())).willReturn(user);
+		Authentication result = provider.authenticate(
+				UsernamePasswordAuthenticationToken.unauthenticated("user", "password"));
+		assertThat(result.isAuthenticated()).isTrue();
+		verifyNoInteractions(passwordManager);
+	}
+
 	@Test
 	public void authenticateWhenBadCredentialsAndPasswordManagerThenNoUpdate() {
 		UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.unauthenticated("user",
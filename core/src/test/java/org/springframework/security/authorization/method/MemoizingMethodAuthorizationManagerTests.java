@@ -0,0 +1,232 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.authorization.method;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.access.intercept.method.MockMethodInvocation;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.TestAuthentication;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link MemoizingMethodAuthorizationManager}.
+ */
+public class MemoizingMethodAuthorizationManagerTests {
+
+	private final Authentication authentication = TestAuthentication.authenticatedUser();
+
+	private final Supplier<Authentication> authenticationSupplier = () -> this.authentication;
+
+	private final Object target = new TestClass();
+
+	private AuthorizationManager<MethodInvocation> delegate;
+
+	private MemoizingMethodAuthorizationManager manager;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.delegate = mock(AuthorizationManager.class);
+		given(this.delegate.check(any(), any())).willReturn(new AuthorizationDecision(true));
+		this.manager = new MemoizingMethodAuthorizationManager(this.delegate);
+		this.manager.setMemoizable((mi) -> true);
+	}
+
+	@Test
+	public void constructorWhenDelegateNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new MemoizingMethodAuthorizationManager(null))
+			.withMessage("delegate cannot be null");
+	}
+
+	@Test
+	public void setDecisionStoreWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.manager.setDecisionStore(null))
+			.withMessage("decisionStore cannot be null");
+	}
+
+	@Test
+	public void checkWhenSameArgumentsThenDelegatesOnce() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		AuthorizationDecision first = this.manager.check(this.authenticationSupplier, invocation("one"));
+		AuthorizationDecision second = this.manager.check(this.authenticationSupplier, invocation("one"));
+		assertThat(second).isSameAs(first);
+		verify(this.delegate).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenDifferentArgumentsThenDelegatesForEach() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("two"));
+		verify(this.delegate, times(2)).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenDifferentAuthenticationThenDelegatesForEach() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(TestAuthentication::authenticatedAdmin, invocation("one"));
+		verify(this.delegate, times(2)).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenDelegateAbstainsThenRemembersAbstention() throws Exception {
+		given(this.delegate.check(any(), any())).willReturn(null);
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		assertThat(this.manager.check(this.authenticationSupplier, invocation("one"))).isNull();
+		assertThat(this.manager.check(this.authenticationSupplier, invocation("one"))).isNull();
+		verify(this.delegate).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenNoDecisionStoreThenAlwaysDelegates() throws Exception {
+		this.manager.setDecisionStore(() -> null);
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		verify(this.delegate, times(2)).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenNotMemoizableThenAlwaysDelegates() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		this.manager.setMemoizable((mi) -> false);
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		verify(this.delegate, times(2)).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenDefaultMemoizableThenAlwaysDelegates() throws Exception {
+		MemoizingMethodAuthorizationManager manager = new MemoizingMethodAuthorizationManager(this.delegate);
+		manager.setDecisionStore(storeOf(new HashMap<>()));
+		manager.check(this.authenticationSupplier, invocation("one"));
+		manager.check(this.authenticationSupplier, invocation("one"));
+		verify(this.delegate, times(2)).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenMutableArgumentThenAlwaysDelegates() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		List<String> argument = new ArrayList<>(List.of("one"));
+		MockMethodInvocation invocation = new MockMethodInvocation(this.target, TestClass.class, "doSomethingWith",
+				new Class[] { List.class }, new Object[] { argument });
+		this.manager.check(this.authenticationSupplier, invocation);
+		argument.add("two");
+		this.manager.check(this.authenticationSupplier, invocation);
+		verify(this.delegate, times(2)).check(any(), any());
+		assertThat(this.manager.getMissCount()).isZero();
+	}
+
+	@Test
+	public void checkThenCountsHitsAndMisses() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("two"));
+		assertThat(this.manager.getHitCount()).isEqualTo(2);
+		assertThat(this.manager.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void checkWhenAuthenticationNotFoundThenDelegates() throws Exception {
+		this.manager.setDecisionStore(storeOf(new HashMap<>()));
+		Supplier<Authentication> missing = () -> {
+			throw new AuthenticationCredentialsNotFoundException("missing");
+		};
+		this.manager.check(missing, invocation("one"));
+		verify(this.delegate).check(eq(missing), any());
+	}
+
+	@Test
+	public void checkWhenNoTransactionThenAlwaysDelegates() throws Exception {
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		this.manager.check(this.authenticationSupplier, invocation("one"));
+		verify(this.delegate, times(2)).check(any(), any());
+	}
+
+	@Test
+	public void checkWhenTransactionThenDelegatesOncePerTransaction() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			this.manager.check(this.authenticationSupplier, invocation("one"));
+			this.manager.check(this.authenticationSupplier, invocation("one"));
+			verify(this.delegate).check(any(), any());
+		}
+		finally {
+			completeTransaction();
+		}
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			this.manager.check(this.authenticationSupplier, invocation("one"));
+			verify(this.delegate, times(2)).check(any(), any());
+		}
+		finally {
+			completeTransaction();
+		}
+	}
+
+	private static void completeTransaction() {
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	private MockMethodInvocation invocation(String argument) throws Exception {
+		return new MockMethodInvocation(this.target, TestClass.class, "doSomething", new Class[] { String.class },
+				new Object[] { argument });
+	}
+
+	private static Supplier<Map<Object, AuthorizationDecision>> storeOf(Map<Object, AuthorizationDecision> store) {
+		return () -> store;
+	}
+
+	public static class TestClass {
+
+		public void doSomething(String argument) {
+		}
+
+		public void doSomethingWith(List<String> argument) {
+		}
+
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link DelegatingSecurityContextThreadPerTaskExecutorService}.
+ */
+public class DelegatingSecurityContextThreadPerTaskExecutorServiceTests {
+
+	private ExecutorService delegate;
+
+	@BeforeEach
+	public void setup() {
+		this.delegate = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	public void cleanup() {
+		this.delegate.shutdownNow();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void submitWhenExplicitSecurityContextThenRunsWithSecurityContextAndClearsIt() throws Exception {
+		SecurityContext securityContext = securityContext("user");
+		ExecutorService executor = new DelegatingSecurityContextThreadPerTaskExecutorService(this.delegate,
+				securityContext);
+		assertThat(executor.submit(SecurityContextHolder::getContext).get()).isSameAs(securityContext);
+		Future<Authentication> after = this.delegate
+			.submit(() -> SecurityContextHolder.getContext().getAuthentication());
+		assertThat(after.get()).isNull();
+	}
+
+	@Test
+	public void submitWhenCurrentSecurityContextThenUsesContextAtSubmission() throws Exception {
+		SecurityContext securityContext = securityContext("user");
+		SecurityContextHolder.setContext(securityContext);
+		ExecutorService executor = new DelegatingSecurityContextThreadPerTaskExecutorService(this.delegate);
+		Future<SecurityContext> result = executor.submit(SecurityContextHolder::getContext);
+		assertThat(result.get()).isSameAs(securityContext);
+	}
+
+	@Test
+	public void submitWhenRunnableThenRunsWithSecurityContext() throws Exception {
+		SecurityContext securityContext = securityContext("user");
+		AtomicReference<SecurityContext> result = new AtomicReference<>();
+		ExecutorService executor = new DelegatingSecurityContextThreadPerTaskExecutorService(this.delegate,
+				securityContext);
+		executor.submit(() -> result.set(SecurityContextHolder.getContext())).get();
+		assertThat(result.get()).isSameAs(securityContext);
+	}
+
+	@Test
+	public void invokeAllThenRunsEachWithSecurityContext() throws Exception {
+		SecurityContext securityContext = securityContext("user");
+		ExecutorService executor = new DelegatingSecurityContextThreadPerTaskExecutorService(this.delegate,
+				securityContext);
+		List<Callable<SecurityContext>> tasks = List.of(SecurityContextHolder::getContext,
+				SecurityContextHolder::getContext);
+		List<Future<SecurityContext>> results = executor.invokeAll(tasks);
+		for (Future<SecurityContext> result : results) {
+			assertThat(result.get()).isSameAs(securityContext);
+		}
+	}
+
+	@Test
+	public void submitWhenCustomSecurityContextHolderStrategyThenUsesIt() throws Exception {
+		SecurityContext securityContext = securityContext("user");
+		SecurityContextHolderStrategy strategy = mock(SecurityContextHolderStrategy.class);
+		given(strategy.getContext()).willReturn(securityContext);
+		DelegatingSecurityContextExecutorService executor = new DelegatingSecurityContextThreadPerTaskExecutorService(
+				this.delegate);
+		executor.setSecurityContextHolderStrategy(strategy);
+		executor.submit(() -> "done").get();
+		verify(strategy).getContext();
+		verify(strategy).setContext(securityContext);
+		verify(strategy).clearContext();
+	}
+
+	@Test
+	@DisabledOnJre(JRE.JAVA_17)
+	public void submitWhenVirtualThreadsThenSecurityContextPropagated() throws Exception {
+		SecurityContext securityContext = securityContext("user");
+		ExecutorService virtualThreads = Executors
+			.newCachedThreadPool(new VirtualThreadTaskExecutor().getVirtualThreadFactory());
+		try {
+			ExecutorService executor = new DelegatingSecurityContextThreadPerTaskExecutorService(virtualThreads,
+					securityContext);
+			assertThat(executor.submit(SecurityContextHolder::getContext).get()).isSameAs(securityContext);
+		}
+		finally {
+			virtualThreads.shutdown();
+		}
+	}
+
+	private static SecurityContext securityContext(String name) {
+		return new SecurityContextImpl(new TestingAuthenticationToken(name, null));
+	}
+
+}
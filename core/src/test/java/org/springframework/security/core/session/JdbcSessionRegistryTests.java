@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.core.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.TestDataSource;
+import org.springframework.security.core.userdetails.PasswordEncodedUser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdbcSessionRegistry}.
+ */
+public class JdbcSessionRegistryTests {
+
+	private static TestDataSource dataSource;
+
+	private JdbcTemplate template;
+
+	private JdbcSessionRegistry registry;
+
+	private Instant now = Instant.parse("2023-07-01T10:00:00Z");
+
+	@BeforeAll
+	public static void createDataSource() {
+		dataSource = new TestDataSource("jdbcsessionregistrytest");
+	}
+
+	@AfterAll
+	public static void clearDataSource() throws Exception {
+		dataSource.destroy();
+		dataSource = null;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		this.template = new JdbcTemplate(dataSource);
+		this.template.execute(JdbcSessionRegistry.CREATE_TABLE_SQL);
+		this.template.execute(JdbcSessionRegistry.CREATE_INDEX_SQL);
+		this.registry = new JdbcSessionRegistry();
+		this.registry.setDataSource(dataSource);
+		this.registry.setClock(Clock.fixed(this.now, ZoneOffset.UTC));
+	}
+
+	@AfterEach
+	public void dropTable() {
+		this.template.execute("drop table spring_security_sessions");
+	}
+
+	@Test
+	public void registerNewSessionThenSessionInformationAvailable() {
+		this.registry.registerNewSession("1234", PasswordEncodedUser.user());
+		SessionInformation session = this.registry.getSessionInformation("1234");
+		assertThat(session.getPrincipal()).isEqualTo("user");
+		assertThat(session.getSessionId()).isEqualTo("1234");
+		assertThat(session.getLastRequest().toInstant()).isEqualTo(this.now);
+		assertThat(session.isExpired()).isFalse();
+		assertThat(this.registry.getAllPrincipals()).containsExactly("user");
+		assertThat(this.registry.getAllSessions(PasswordEncodedUser.user(), false)).hasSize(1);
+	}
+
+	@Test
+	public void getSessionInformationWhenUnknownThenNull() {
+		assertThat(this.registry.getSessionInformation("unknown")).isNull();
+	}
+
+	@Test
+	public void expireNowThenExpiredForAllRegistries() {
+		this.registry.registerNewSession("1234", "user");
+		this.registry.registerNewSession("5678", "user");
+		this.registry.getSessionInformation("1234").expireNow();
+		JdbcSessionRegistry otherNode = new JdbcSessionRegistry();
+		otherNode.setDataSource(dataSource);
+		assertThat(otherNode.getSessionInformation("1234").isExpired()).isTrue();
+		List<SessionInformation> sessions = otherNode.getAllSessions("user", false);
+		assertThat(sessions).extracting(SessionInformation::getSessionId).containsExactly("5678");
+		assertThat(otherNode.getAllSessions("user", true)).hasSize(2);
+	}
+
+	@Test
+	public void refreshLastRequestThenWritten() {
+		this.registry.registerNewSession("1234", "user");
+		this.registry.setClock(Clock.fixed(this.now.plusSeconds(30), ZoneOffset.UTC));
+		this.registry.refreshLastRequest("1234");
+		assertThat(this.registry.getSessionInformation("1234").getLastRequest().toInstant())
+			.isEqualTo(this.now.plusSeconds(30));
+	}
+
+	@Test
+	public void onApplicationEventWhenSessionIdChangedThenSessionMoved() {
+		this.registry.registerNewSession("1234", "user");
+		this.registry.onApplicationEvent(new SessionIdChangedEvent("1234") {
+
+			@Override
+			public String getOldSessionId() {
+				return "1234";
+			}
+
+			@Override
+			public String getNewSessionId() {
+				return "5678";
+			}
+
+		});
+		assertThat(this.registry.getSessionInformation("1234")).isNull();
+		assertThat(this.registry.getSessionInformation("5678").getPrincipal()).isEqualTo("user");
+	}
+
+	@Test
+	public void removeInactiveSessionInformationThenOnlyInactiveRemoved() {
+		this.registry.registerNewSession("1234", "user");
+		this.registry.setClock(Clock.fixed(this.now.plus(Duration.ofHours(1)), ZoneOffset.UTC));
+		this.registry.registerNewSession("5678", "user");
+		assertThat(this.registry.removeInactiveSessionInformation(Duration.ofMinutes(30))).isEqualTo(1);
+		assertThat(this.registry.getSessionInformation("1234")).isNull();
+		assertThat(this.registry.getSessionInformation("5678")).isNotNull();
+	}
+
+	@Test
+	public void removeSessionInformationThenRemoved() {
+		this.registry.registerNewSession("1234", "user");
+		this.registry.removeSessionInformation("1234");
+		assertThat(this.registry.getSessionInformation("1234")).isNull();
+		assertThat(this.registry.getAllPrincipals()).isEmpty();
+	}
+
+}
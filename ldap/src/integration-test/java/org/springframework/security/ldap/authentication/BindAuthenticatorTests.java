@@ -16,6 +16,8 @@
 
 package org.springframework.security.ldap.authentication;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +36,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * Tests for {@link BindAuthenticator}.
@@ -136,6 +139,42 @@ public class BindAuthenticatorTests {
 			.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("bob", "wrongpassword")));
 	}
 
+	@Test
+	public void authenticateWhenBindContextPoolThenRebindsPooledConnection() {
+		this.authenticator.setUserDnPatterns(new String[] { "uid={0},ou=people", "cn={0},ou=people" });
+		this.authenticator.setBindContextPoolSize(1);
+		assertThat(this.authenticator.authenticate(this.bob).getStringAttribute("uid")).isEqualTo("bob");
+		assertThat(this.authenticator.authenticate(this.bob).getStringAttribute("uid")).isEqualTo("bob");
+		DirContextOperations jerry = this.authenticator
+			.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("mouse, jerry", "jerryspassword"));
+		assertThat(jerry.getStringAttribute("uid")).isEqualTo("jerry");
+		assertThatExceptionOfType(BadCredentialsException.class).isThrownBy(() -> this.authenticator
+			.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("bob", "wrongpassword")));
+		assertThat(this.authenticator.authenticate(this.bob).getStringAttribute("uid")).isEqualTo("bob");
+	}
+
+	@Test
+	public void authenticateWhenBindContextPoolDestroyedThenBindsWithNewConnection() {
+		this.authenticator.setUserDnPatterns(new String[] { "uid={0},ou=people" });
+		this.authenticator.setBindContextPoolSize(1);
+		this.authenticator.setBindContextMaxIdleTime(Duration.ofMillis(1));
+		assertThat(this.authenticator.authenticate(this.bob).getStringAttribute("uid")).isEqualTo("bob");
+		assertThat(this.authenticator.authenticate(this.bob).getStringAttribute("uid")).isEqualTo("bob");
+		this.authenticator.destroy();
+		assertThat(this.authenticator.authenticate(this.bob).getStringAttribute("uid")).isEqualTo("bob");
+	}
+
+	@Test
+	public void setBindContextMaxIdleTimeWhenZeroThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.authenticator.setBindContextMaxIdleTime(Duration.ZERO));
+	}
+
+	@Test
+	public void setBindContextPoolSizeWhenNegativeThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.authenticator.setBindContextPoolSize(-1));
+	}
+
 	@Test
 	public void testUserDnPatternReturnsCorrectDn() {
 		this.authenticator.setUserDnPatterns(new String[] { "cn={0},ou=people" });
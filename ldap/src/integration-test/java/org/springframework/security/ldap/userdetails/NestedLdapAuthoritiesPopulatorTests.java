@@ -150,4 +150,22 @@ public class NestedLdapAuthoritiesPopulatorTests {
 		assertThat(ldapAuthorities[3].getAuthority()).isEqualTo(this.groovyDevelopers.getAuthority());
 	}
 
+	@Test
+	public void getGrantedAuthoritiesWhenBreadthFirstSearchThenSameAuthorities() {
+		this.populator.setBreadthFirstSearch(true);
+		DirContextAdapter ctx = new DirContextAdapter("uid=scaladude,ou=people,dc=springframework,dc=org");
+		Collection<GrantedAuthority> authorities = this.populator.getGrantedAuthorities(ctx, "scaladude");
+		assertThat(authorities).containsExactlyInAnyOrder(this.javaDevelopers, this.circularJavaDevelopers,
+				this.scalaDevelopers, this.groovyDevelopers, this.jDevelopers);
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenBreadthFirstSearchWithSearchLimitThenFirstLevelOnly() {
+		this.populator.setBreadthFirstSearch(true);
+		this.populator.setMaxSearchDepth(1);
+		DirContextAdapter ctx = new DirContextAdapter("uid=scaladude,ou=people,dc=springframework,dc=org");
+		Collection<GrantedAuthority> authorities = this.populator.getGrantedAuthorities(ctx, "scaladude");
+		assertThat(authorities).containsExactly(this.scalaDevelopers);
+	}
+
 }
@@ -16,12 +16,19 @@
 
 package org.springframework.security.ldap.authentication;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.naming.Context;
 import javax.naming.directory.Attributes;
 import javax.naming.directory.DirContext;
+import javax.naming.ldap.LdapContext;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.log.LogMessage;
 import org.springframework.ldap.NamingException;
 import org.springframework.ldap.core.DirContextAdapter;
@@ -32,6 +39,7 @@ import org.springframework.ldap.support.LdapUtils;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.ldap.ppolicy.PasswordPolicyAwareContextSource;
 import org.springframework.security.ldap.ppolicy.PasswordPolicyControl;
 import org.springframework.security.ldap.ppolicy.PasswordPolicyControlExtractor;
 import org.springframework.util.Assert;
@@ -43,10 +51,14 @@ import org.springframework.util.StringUtils;
  * @author Luke Taylor
  * @see AbstractLdapAuthenticator
  */
-public class BindAuthenticator extends AbstractLdapAuthenticator {
+public class BindAuthenticator extends AbstractLdapAuthenticator implements DisposableBean {
 
 	private static final Log logger = LogFactory.getLog(BindAuthenticator.class);
 
+	private volatile BlockingQueue<PooledContext> bindContexts;
+
+	private Duration bindContextMaxIdleTime = Duration.ofMinutes(1);
+
 	/**
 	 * Create an initialized instance using the {@link BaseLdapPathContextSource}
 	 * provided.
@@ -107,8 +119,12 @@ public class BindAuthenticator extends AbstractLdapAuthenticator {
 		fullDn.prepend(ctxSource.getBaseLdapPath());
 		logger.trace(LogMessage.format("Attempting to bind as %s", fullDn));
 		DirContext ctx = null;
+		boolean reusable = false;
 		try {
-			ctx = getContextSource().getContext(fullDn.toString(), password);
+			ctx = rebindPooledContext(fullDn.toString(), password);
+			if (ctx == null) {
+				ctx = getContextSource().getContext(fullDn.toString(), password);
+			}
 			// Check for password policy control
 			PasswordPolicyControl ppolicy = PasswordPolicyControlExtractor.extractControl(ctx);
 			if (attrs == null || attrs.size() == 0) {
@@ -119,6 +135,7 @@ public class BindAuthenticator extends AbstractLdapAuthenticator {
 				result.setAttributeValue(ppolicy.getID(), ppolicy);
 			}
 			logger.debug(LogMessage.format("Bound %s", fullDn));
+			reusable = true;
 			return result;
 		}
 		catch (NamingException ex) {
@@ -137,11 +154,134 @@ public class BindAuthenticator extends AbstractLdapAuthenticator {
 			throw LdapUtils.convertLdapException(ex);
 		}
 		finally {
+			releaseContext(ctx, reusable);
+		}
+		return null;
+	}
+
+	private DirContext rebindPooledContext(String fullDn, String password) throws javax.naming.NamingException {
+		LdapContext ctx = pollPooledContext();
+		if (ctx == null) {
+			return null;
+		}
+		try {
+			ctx.addToEnvironment(Context.SECURITY_PRINCIPAL, fullDn);
+			ctx.addToEnvironment(Context.SECURITY_CREDENTIALS, password);
+			ctx.reconnect(ctx.getConnectControls());
+			return ctx;
+		}
+		catch (javax.naming.AuthenticationException ex) {
 			LdapUtils.closeContext(ctx);
+			throw LdapUtils.convertLdapException(ex);
+		}
+		catch (javax.naming.NamingException ex) {
+			// Most likely a stale connection, so evict it and open a new one instead
+			logger.trace("Evicting pooled bind connection", ex);
+			LdapUtils.closeContext(ctx);
+			return null;
+		}
+	}
+
+	private LdapContext pollPooledContext() {
+		BlockingQueue<PooledContext> bindContexts = this.bindContexts;
+		if (bindContexts == null) {
+			return null;
+		}
+		long maxIdleNanos = this.bindContextMaxIdleTime.toNanos();
+		// The pool is in release order, so the first connection that has not been idle
+		// for too long is followed by younger ones only
+		for (PooledContext pooled = bindContexts.poll(); pooled != null; pooled = bindContexts.poll()) {
+			if (System.nanoTime() - pooled.releasedAt() < maxIdleNanos) {
+				return pooled.context();
+			}
+			logger.trace("Evicting idle pooled bind connection");
+			LdapUtils.closeContext(pooled.context());
 		}
 		return null;
 	}
 
+	private void releaseContext(DirContext ctx, boolean reusable) {
+		BlockingQueue<PooledContext> bindContexts = this.bindContexts;
+		if (reusable && bindContexts != null && ctx instanceof LdapContext ldapContext) {
+			try {
+				ldapContext.removeFromEnvironment(Context.SECURITY_CREDENTIALS);
+				if (bindContexts.offer(new PooledContext(ldapContext, System.nanoTime()))) {
+					if (this.bindContexts != bindContexts) {
+						// The pool was resized or destroyed in the meantime
+						closeContexts(bindContexts);
+					}
+					return;
+				}
+			}
+			catch (javax.naming.NamingException ex) {
+				logger.trace("Failed to return bind connection to the pool", ex);
+			}
+		}
+		LdapUtils.closeContext(ctx);
+	}
+
+	/**
+	 * Sets the maximum number of connections kept open for binding as users. When
+	 * greater than zero, a connection used for a successful bind is kept and the next
+	 * authentication re-binds on it with the new user's credentials instead of opening a
+	 * new connection (and TLS session) per login. Connections that fail to re-bind for
+	 * any reason other than bad credentials are evicted and replaced by a new connection.
+	 * Credentials are removed from a connection's environment before it is pooled.
+	 *
+	 * <p>
+	 * Pooling is not applied when the context source is a
+	 * {@link PasswordPolicyAwareContextSource}, since it needs to inspect every bind
+	 * itself. The default is {@code 0}, which opens a new connection for each bind.
+	 * Changing the size closes the connections pooled so far, as does {@link #destroy()}.
+	 * @param bindContextPoolSize the maximum number of pooled bind connections
+	 * @since 6.2
+	 * @see #setBindContextMaxIdleTime(Duration)
+	 */
+	public void setBindContextPoolSize(int bindContextPoolSize) {
+		Assert.isTrue(bindContextPoolSize >= 0, "bindContextPoolSize cannot be negative");
+		BlockingQueue<PooledContext> previous = this.bindContexts;
+		boolean pooled = bindContextPoolSize > 0
+				&& !(getContextSource() instanceof PasswordPolicyAwareContextSource);
+		this.bindContexts = pooled ? new ArrayBlockingQueue<>(bindContextPoolSize) : null;
+		closeContexts(previous);
+	}
+
+	/**
+	 * Sets the maximum time a pooled bind connection may stay unused. Connections idle
+	 * for longer are closed instead of being re-bound when they are next taken from the
+	 * pool, so that connections the server or a firewall may already have dropped are
+	 * not reused. The default is one minute.
+	 * @param bindContextMaxIdleTime the maximum idle time of a pooled bind connection
+	 * @since 6.2
+	 * @see #setBindContextPoolSize(int)
+	 */
+	public void setBindContextMaxIdleTime(Duration bindContextMaxIdleTime) {
+		Assert.notNull(bindContextMaxIdleTime, "bindContextMaxIdleTime cannot be null");
+		Assert.isTrue(!bindContextMaxIdleTime.isNegative() && !bindContextMaxIdleTime.isZero(),
+				"bindContextMaxIdleTime must be positive");
+		this.bindContextMaxIdleTime = bindContextMaxIdleTime;
+	}
+
+	/**
+	 * Closes the pooled bind connections and stops pooling connections.
+	 * @since 6.2
+	 */
+	@Override
+	public void destroy() {
+		BlockingQueue<PooledContext> previous = this.bindContexts;
+		this.bindContexts = null;
+		closeContexts(previous);
+	}
+
+	private static void closeContexts(BlockingQueue<PooledContext> bindContexts) {
+		if (bindContexts == null) {
+			return;
+		}
+		for (PooledContext pooled = bindContexts.poll(); pooled != null; pooled = bindContexts.poll()) {
+			LdapUtils.closeContext(pooled.context());
+		}
+	}
+
 	/**
 	 * Allows subclasses to inspect the exception thrown by an attempt to bind with a
 	 * particular DN. The default implementation just reports the failure to the debug
@@ -151,4 +291,7 @@ public class BindAuthenticator extends AbstractLdapAuthenticator {
 		logger.trace(LogMessage.format("Failed to bind as %s", userDn), cause);
 	}
 
+	private record PooledContext(LdapContext context, long releasedAt) {
+	}
+
 }
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -120,6 +121,8 @@ public final class ActiveDirectoryLdapAuthenticationProvider extends AbstractLda
 
 	private static final int ACCOUNT_LOCKED = 0x775;
 
+	private static final int MAX_CACHED_GROUP_AUTHORITIES = 4096;
+
 	private final String domain;
 
 	private final String rootDn;
@@ -132,6 +135,8 @@ public final class ActiveDirectoryLdapAuthenticationProvider extends AbstractLda
 
 	private Map<String, Object> contextEnvironmentProperties = new HashMap<>();
 
+	private final Map<String, GrantedAuthority> groupAuthorities = new ConcurrentHashMap<>();
+
 	// Only used to allow tests to substitute a mock LdapContext
 	ContextFactory contextFactory = new ContextFactory();
 
@@ -196,11 +201,23 @@ public final class ActiveDirectoryLdapAuthenticationProvider extends AbstractLda
 		}
 		List<GrantedAuthority> authorities = new ArrayList<>(groups.length);
 		for (String group : groups) {
-			authorities.add(new SimpleGrantedAuthority(new DistinguishedName(group).removeLast().getValue()));
+			authorities.add(getGroupAuthority(group));
 		}
 		return authorities;
 	}
 
+	private GrantedAuthority getGroupAuthority(String group) {
+		GrantedAuthority authority = this.groupAuthorities.get(group);
+		if (authority == null) {
+			authority = new SimpleGrantedAuthority(new DistinguishedName(group).removeLast().getValue());
+			// group DNs are shared by many users, so remember the parsed values up to a bound
+			if (this.groupAuthorities.size() < MAX_CACHED_GROUP_AUTHORITIES) {
+				this.groupAuthorities.put(group, authority);
+			}
+		}
+		return authority;
+	}
+
 	private DirContext bindAsUser(String username, String password) {
 		// TODO. add DNS lookup based on domain
 		final String bindUrl = this.url;
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.ldap.search;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.core.log.LogMessage;
+import org.springframework.ldap.TimeLimitExceededException;
+import org.springframework.ldap.UncategorizedLdapException;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link LdapUserSearch} which queries several {@link LdapUserSearch} instances, for
+ * example {@link FilterBasedLdapUserSearch}es with different search bases, concurrently.
+ * The searches are consulted in the declared order: the first one which finds the user
+ * wins and the first one which fails with an error other than
+ * {@link UsernameNotFoundException} causes that error to be thrown, so the result is the
+ * same as searching the bases one after the other. In both cases the remaining searches
+ * are cancelled. The time taken is at most that of the slowest
+ * search base rather than the sum of all of them. Time and size limits for each search
+ * base are configured on the individual {@link LdapUserSearch} instances.
+ *
+ * <p>
+ * The searches run on the provided {@link Executor}, which should be bounded, for
+ * example a {@link java.util.concurrent.ThreadPoolExecutor} shared by all
+ * authentications, so that a flood of logins cannot start an unbounded number of
+ * threads.
+ *
+ * <p>
+ * Usernames which are not found by any search can optionally be remembered in a
+ * {@link Cache}, which prevents floods of requests for unknown usernames from reaching
+ * the directory. A {@link Cache} with a short time to live should be used so that new
+ * users are found once they have been added to the directory.
+ *
+ * @since 6.2
+ * @see FilterBasedLdapUserSearch
+ */
+public final class ParallelLdapUserSearch implements LdapUserSearch {
+
+	private static final Log logger = LogFactory.getLog(ParallelLdapUserSearch.class);
+
+	private final List<LdapUserSearch> userSearches;
+
+	private final Executor executor;
+
+	private Duration timeout;
+
+	private Cache notFoundCache;
+
+	/**
+	 * Creates a new instance
+	 * @param userSearches the {@link LdapUserSearch} instances to query
+	 * @param executor the {@link Executor} to run the searches on
+	 */
+	public ParallelLdapUserSearch(List<LdapUserSearch> userSearches, Executor executor) {
+		Assert.notEmpty(userSearches, "userSearches cannot be empty");
+		Assert.noNullElements(userSearches, "userSearches cannot contain null elements");
+		Assert.notNull(executor, "executor cannot be null");
+		this.userSearches = new ArrayList<>(userSearches);
+		this.executor = executor;
+	}
+
+	@Override
+	public DirContextOperations searchForUser(String username) {
+		if (this.notFoundCache != null && this.notFoundCache.get(username) != null) {
+			logger.debug(LogMessage.format("Skipped search for user '%s' since it was recently not found", username));
+			throw new UsernameNotFoundException("User " + username + " not found in directory.");
+		}
+		List<FutureTask<DirContextOperations>> searches = new ArrayList<>(this.userSearches.size());
+		try {
+			for (LdapUserSearch userSearch : this.userSearches) {
+				FutureTask<DirContextOperations> search = new FutureTask<>(() -> userSearch.searchForUser(username));
+				searches.add(search);
+				this.executor.execute(search);
+			}
+			long deadline = (this.timeout != null) ? System.nanoTime() + this.timeout.toNanos() : 0;
+			for (FutureTask<DirContextOperations> search : searches) {
+				try {
+					DirContextOperations user = await(search, deadline);
+					logger.debug(LogMessage.format("Found user '%s'", username));
+					return user;
+				}
+				catch (ExecutionException ex) {
+					if (ex.getCause() instanceof UsernameNotFoundException) {
+						continue;
+					}
+					if (ex.getCause() instanceof RuntimeException runtime) {
+						throw runtime;
+					}
+					throw new UncategorizedLdapException("Failed to search for user", ex.getCause());
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedLdapException("Interrupted while searching for user", ex);
+		}
+		finally {
+			for (FutureTask<DirContextOperations> search : searches) {
+				search.cancel(true);
+			}
+		}
+		if (this.notFoundCache != null) {
+			this.notFoundCache.put(username, Boolean.TRUE);
+		}
+		throw new UsernameNotFoundException("User " + username + " not found in directory.");
+	}
+
+	private DirContextOperations await(FutureTask<DirContextOperations> search, long deadline)
+			throws InterruptedException, ExecutionException {
+		if (this.timeout == null) {
+			return search.get();
+		}
+		try {
+			return search.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException ex) {
+			throw new TimeLimitExceededException(new javax.naming.TimeLimitExceededException(
+					"Failed to find user within " + this.timeout.toMillis() + " ms"));
+		}
+	}
+
+	/**
+	 * Sets the maximum time to wait for a search to find the user. The default is to wait
+	 * until all searches have completed.
+	 * @param timeout the maximum time to wait
+	 */
+	public void setTimeout(Duration timeout) {
+		Assert.notNull(timeout, "timeout cannot be null");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Sets the {@link Cache} used to remember usernames which were not found by any
+	 * search. The default is to not remember them.
+	 * @param notFoundCache the {@link Cache} to use
+	 */
+	public void setNotFoundCache(Cache notFoundCache) {
+		Assert.notNull(notFoundCache, "notFoundCache cannot be null");
+		this.notFoundCache = notFoundCache;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " " + this.userSearches;
+	}
+
+}
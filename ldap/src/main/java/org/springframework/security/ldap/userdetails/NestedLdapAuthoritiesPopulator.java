@@ -16,10 +16,14 @@
 
 package org.springframework.security.ldap.userdetails;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -117,6 +121,16 @@ import org.springframework.util.StringUtils;
  *  member: uid=scaladude,ou=people,dc=springframework,dc=org *
  * </pre>
  *
+ * <p>
+ * By default one search is issued per group discovered. When
+ * {@link #setBreadthFirstSearch(boolean) breadth-first search} is enabled, the parents of
+ * all groups found on one level are instead looked up with a single search, so the
+ * number of searches is bounded by the nesting depth rather than the number of groups.
+ * When the directory is Active Directory, a {@link DefaultLdapAuthoritiesPopulator}
+ * with a group search filter using the {@code LDAP_MATCHING_RULE_IN_CHAIN} rule, such
+ * as {@code (member:1.2.840.113556.1.4.1941:={0})}, resolves all nested groups with one
+ * search and makes this class unnecessary.
+ *
  * @author Filip Hanik
  */
 
@@ -124,6 +138,8 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 
 	private static final Log logger = LogFactory.getLog(NestedLdapAuthoritiesPopulator.class);
 
+	private static final Pattern FILTER_ARGUMENT = Pattern.compile("\\{(\\d+)\\}");
+
 	/**
 	 * The attribute names to retrieve for each LDAP group
 	 */
@@ -134,6 +150,8 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 	 */
 	private int maxSearchDepth = 10;
 
+	private boolean breadthFirstSearch;
+
 	/**
 	 * Constructor for group search scenarios. <tt>userRoleAttributes</tt> may still be
 	 * set as a property.
@@ -151,10 +169,96 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 			return new HashSet<>();
 		}
 		Set<GrantedAuthority> authorities = new HashSet<>();
-		performNestedSearch(userDn, username, authorities, getMaxSearchDepth());
+		if (this.breadthFirstSearch) {
+			performBreadthFirstSearch(userDn, username, authorities);
+		}
+		else {
+			performNestedSearch(userDn, username, authorities, getMaxSearchDepth());
+		}
 		return authorities;
 	}
 
+	/**
+	 * Performs the nested group search one level at a time, searching for the parents of
+	 * every group found on a level with a single filter
+	 * @param userDn - the userDN to search for
+	 * @param username - the username of the user
+	 * @param authorities - the authorities set that will be populated, must not be null
+	 */
+	private void performBreadthFirstSearch(String userDn, String username, Set<GrantedAuthority> authorities) {
+		Map<String, String> level = new LinkedHashMap<>();
+		level.put(userDn, username);
+		Set<String> visited = new HashSet<>();
+		for (int depth = getMaxSearchDepth(); depth > 0 && !level.isEmpty(); depth--) {
+			Map<String, String> members = level;
+			logger.trace(LogMessage.of(() -> "Searching for parent groups of " + members.keySet() + " with filter "
+					+ getGroupSearchFilter() + " in search base " + getGroupSearchBase()));
+			Set<Map<String, List<String>>> groups = searchForGroups(members);
+			logger.debug(LogMessage.format("Found roles from search %s", groups));
+			level = new LinkedHashMap<>();
+			for (Map<String, List<String>> record : groups) {
+				String dn = record.get(SpringSecurityLdapTemplate.DN_KEY).get(0);
+				List<String> roleValues = record.get(getGroupRoleAttribute());
+				Set<String> roles = new HashSet<>();
+				if (roleValues != null) {
+					roles.addAll(roleValues);
+				}
+				for (String role : roles) {
+					if (isConvertToUpperCase()) {
+						role = role.toUpperCase();
+					}
+					authorities.add(new LdapAuthority(getRolePrefix() + role, dn, record));
+				}
+				// only search for the parents of each group once, which also prevents a
+				// forever loop for a misconfigured ldap directory
+				if (visited.add(dn)) {
+					level.put(dn, (roles.size() > 0) ? roles.iterator().next() : dn);
+				}
+			}
+		}
+		if (!level.isEmpty()) {
+			logger.debug(LogMessage.of(() -> "Aborted search since max depth reached, for roles for user '" + username
+					+ "' with DN = " + userDn + " and filter " + getGroupSearchFilter() + " in search base '"
+					+ getGroupSearchBase() + "'"));
+		}
+	}
+
+	private Set<Map<String, List<String>>> searchForGroups(Map<String, String> members) {
+		if (getAttributeNames() == null) {
+			setAttributeNames(new HashSet<>());
+		}
+		if (StringUtils.hasText(getGroupRoleAttribute()) && !getAttributeNames().contains(getGroupRoleAttribute())) {
+			getAttributeNames().add(getGroupRoleAttribute());
+		}
+		String filter = getGroupSearchFilter();
+		List<String> params = new ArrayList<>();
+		StringBuilder combinedFilter = new StringBuilder((members.size() > 1) ? "(|" : "");
+		for (Map.Entry<String, String> member : members.entrySet()) {
+			combinedFilter.append(offsetFilterArguments(filter, params.size()));
+			params.add(member.getKey());
+			params.add(member.getValue());
+		}
+		if (members.size() > 1) {
+			combinedFilter.append(")");
+		}
+		return getLdapTemplate().searchForMultipleAttributeValues(getGroupSearchBase(), combinedFilter.toString(),
+				params.toArray(), getAttributeNames().toArray(new String[0]));
+	}
+
+	private static String offsetFilterArguments(String filter, int offset) {
+		if (offset == 0) {
+			return filter;
+		}
+		Matcher matcher = FILTER_ARGUMENT.matcher(filter);
+		StringBuilder result = new StringBuilder();
+		while (matcher.find()) {
+			int index = Integer.parseInt(matcher.group(1)) + offset;
+			matcher.appendReplacement(result, "{" + index + "}");
+		}
+		matcher.appendTail(result);
+		return result.toString();
+	}
+
 	/**
 	 * Performs the nested group search
 	 * @param userDn - the userDN to search for, will become the group DN for subsequent
@@ -242,4 +346,18 @@ public class NestedLdapAuthoritiesPopulator extends DefaultLdapAuthoritiesPopula
 		this.maxSearchDepth = maxSearchDepth;
 	}
 
+	/**
+	 * Whether to search for nested groups one level at a time, combining the group search
+	 * filter for every group found on a level into a single {@code (|...)} filter. This
+	 * issues at most one search per level of nesting instead of one search per group.
+	 * The group search filter is applied once per group, with <tt>{0}</tt> and
+	 * <tt>{1}</tt> referring to that group's DN and role name. Defaults to
+	 * {@code false}.
+	 * @param breadthFirstSearch whether to search one level at a time
+	 * @since 6.2
+	 */
+	public void setBreadthFirstSearch(boolean breadthFirstSearch) {
+		this.breadthFirstSearch = breadthFirstSearch;
+	}
+
 }
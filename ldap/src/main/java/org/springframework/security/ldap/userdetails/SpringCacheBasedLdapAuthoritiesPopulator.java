@@ -0,0 +1,101 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.ldap.userdetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cache.Cache;
+import org.springframework.core.log.LogMessage;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link LdapAuthoritiesPopulator} which caches the authorities obtained from another
+ * {@link LdapAuthoritiesPopulator} in a Spring defined {@link Cache}, keyed by the
+ * user's full DN. This avoids querying the directory for group membership each time the
+ * same user is authenticated or loaded by a {@link LdapUserDetailsService}.
+ *
+ * <p>
+ * Expiry and size bounds are those of the supplied {@link Cache}, so a {@link Cache}
+ * with a time to live should be used to make sure that changes in group membership are
+ * eventually picked up. Entries can also be removed explicitly with
+ * {@link #evict(String)} and {@link #clear()}.
+ *
+ * @since 6.2
+ */
+public class SpringCacheBasedLdapAuthoritiesPopulator implements LdapAuthoritiesPopulator {
+
+	private static final Log logger = LogFactory.getLog(SpringCacheBasedLdapAuthoritiesPopulator.class);
+
+	private final LdapAuthoritiesPopulator delegate;
+
+	private final Cache cache;
+
+	/**
+	 * Creates a new instance
+	 * @param delegate the {@link LdapAuthoritiesPopulator} to obtain authorities from on
+	 * a cache miss
+	 * @param cache the {@link Cache} to store the authorities in
+	 */
+	public SpringCacheBasedLdapAuthoritiesPopulator(LdapAuthoritiesPopulator delegate, Cache cache) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(cache, "cache cannot be null");
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Collection<? extends GrantedAuthority> getGrantedAuthorities(DirContextOperations userData,
+			String username) {
+		String userDn = userData.getNameInNamespace();
+		Cache.ValueWrapper element = this.cache.get(userDn);
+		logger.debug(LogMessage.of(() -> "Cache hit: " + (element != null) + "; user DN: " + userDn));
+		if (element != null) {
+			return (Collection<? extends GrantedAuthority>) element.get();
+		}
+		Collection<GrantedAuthority> authorities = Collections
+			.unmodifiableList(new ArrayList<>(this.delegate.getGrantedAuthorities(userData, username)));
+		this.cache.put(userDn, authorities);
+		return authorities;
+	}
+
+	/**
+	 * Removes the cached authorities of a user
+	 * @param userDn the full DN of the user
+	 */
+	public void evict(String userDn) {
+		logger.debug(LogMessage.of(() -> "Cache remove: " + userDn));
+		this.cache.evict(userDn);
+	}
+
+	/**
+	 * Removes the cached authorities of all users, for example after group membership
+	 * changed in the directory
+	 */
+	public void clear() {
+		logger.debug("Cache clear");
+		this.cache.clear();
+	}
+
+}
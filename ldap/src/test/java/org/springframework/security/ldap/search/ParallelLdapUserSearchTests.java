@@ -0,0 +1,171 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.ldap.search;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.ldap.CommunicationException;
+import org.springframework.ldap.TimeLimitExceededException;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ParallelLdapUserSearch}.
+ */
+public class ParallelLdapUserSearchTests {
+
+	private final LdapUserSearch first = mock(LdapUserSearch.class);
+
+	private final LdapUserSearch second = mock(LdapUserSearch.class);
+
+	private final ParallelLdapUserSearch search = new ParallelLdapUserSearch(Arrays.asList(this.first, this.second),
+			Runnable::run);
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	public void cleanup() {
+		this.executor.shutdownNow();
+	}
+
+	@Test
+	public void constructorWhenEmptyThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ParallelLdapUserSearch(Collections.emptyList(), Runnable::run));
+	}
+
+	@Test
+	public void constructorWhenExecutorNullThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ParallelLdapUserSearch(Arrays.asList(this.first), null));
+	}
+
+	@Test
+	public void searchForUserWhenFoundByBothConcurrentlyThenFirstDeclaredWins() {
+		DirContextOperations first = new DirContextAdapter("uid=bob,ou=people");
+		DirContextOperations second = new DirContextAdapter("uid=bob,ou=contractors");
+		CountDownLatch secondFound = new CountDownLatch(1);
+		given(this.first.searchForUser("bob")).willAnswer((invocation) -> {
+			secondFound.await(5, TimeUnit.SECONDS);
+			return first;
+		});
+		given(this.second.searchForUser("bob")).willAnswer((invocation) -> {
+			secondFound.countDown();
+			return second;
+		});
+		ParallelLdapUserSearch search = new ParallelLdapUserSearch(Arrays.asList(this.first, this.second),
+				this.executor);
+		assertThat(search.searchForUser("bob")).isSameAs(first);
+	}
+
+	@Test
+	public void searchForUserWhenSearchTooSlowThenTimeoutAndSearchInterrupted() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		given(this.first.searchForUser("bob")).willAnswer((invocation) -> {
+			try {
+				Thread.sleep(5000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+			return null;
+		});
+		ParallelLdapUserSearch search = new ParallelLdapUserSearch(Arrays.asList(this.first), this.executor);
+		search.setTimeout(Duration.ofMillis(50));
+		assertThatExceptionOfType(TimeLimitExceededException.class).isThrownBy(() -> search.searchForUser("bob"));
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void searchForUserWhenFoundBySecondThenReturnsUser() {
+		DirContextOperations bob = new DirContextAdapter("uid=bob,ou=people");
+		given(this.first.searchForUser("bob")).willThrow(new UsernameNotFoundException("not found"));
+		given(this.second.searchForUser("bob")).willReturn(bob);
+		assertThat(this.search.searchForUser("bob")).isSameAs(bob);
+	}
+
+	@Test
+	public void searchForUserWhenFoundByFirstAndSecondFailsThenReturnsUser() {
+		DirContextOperations bob = new DirContextAdapter("uid=bob,ou=people");
+		given(this.first.searchForUser("bob")).willReturn(bob);
+		given(this.second.searchForUser("bob")).willThrow(new CommunicationException(null));
+		assertThat(this.search.searchForUser("bob")).isSameAs(bob);
+	}
+
+	@Test
+	public void searchForUserWhenFirstFailsAndFoundBySecondThenFailure() {
+		CommunicationException failure = new CommunicationException(null);
+		given(this.first.searchForUser("bob")).willThrow(failure);
+		given(this.second.searchForUser("bob")).willReturn(new DirContextAdapter("uid=bob,ou=people"));
+		assertThatExceptionOfType(CommunicationException.class).isThrownBy(() -> this.search.searchForUser("bob"))
+			.isSameAs(failure);
+	}
+
+	@Test
+	public void searchForUserWhenNotFoundAndOneFailedThenFailure() {
+		CommunicationException failure = new CommunicationException(null);
+		given(this.first.searchForUser("bob")).willThrow(new UsernameNotFoundException("not found"));
+		given(this.second.searchForUser("bob")).willThrow(failure);
+		assertThatExceptionOfType(CommunicationException.class).isThrownBy(() -> this.search.searchForUser("bob"))
+			.isSameAs(failure);
+	}
+
+	@Test
+	public void searchForUserWhenNotFoundThenNotFoundCached() {
+		given(this.first.searchForUser("bob")).willThrow(new UsernameNotFoundException("not found"));
+		given(this.second.searchForUser("bob")).willThrow(new UsernameNotFoundException("not found"));
+		this.search.setNotFoundCache(new ConcurrentMapCache("notFound"));
+		assertThatExceptionOfType(UsernameNotFoundException.class).isThrownBy(() -> this.search.searchForUser("bob"));
+		assertThatExceptionOfType(UsernameNotFoundException.class).isThrownBy(() -> this.search.searchForUser("bob"));
+		verify(this.first).searchForUser("bob");
+		verify(this.second).searchForUser("bob");
+	}
+
+	@Test
+	public void searchForUserWhenTimeoutExceededThenException() {
+		ParallelLdapUserSearch search = new ParallelLdapUserSearch(Arrays.asList(this.first), (task) -> {
+		});
+		search.setTimeout(Duration.ofMillis(10));
+		assertThatExceptionOfType(TimeLimitExceededException.class).isThrownBy(() -> search.searchForUser("bob"));
+		verifyNoInteractions(this.first);
+	}
+
+	@Test
+	public void setTimeoutWhenNegativeThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.search.setTimeout(Duration.ofSeconds(-1)));
+	}
+
+}
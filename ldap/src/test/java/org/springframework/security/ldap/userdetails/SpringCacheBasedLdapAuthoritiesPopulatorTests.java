@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.ldap.userdetails;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.core.DistinguishedName;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link SpringCacheBasedLdapAuthoritiesPopulator}.
+ */
+public class SpringCacheBasedLdapAuthoritiesPopulatorTests {
+
+	private final LdapAuthoritiesPopulator delegate = mock(LdapAuthoritiesPopulator.class);
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache("ldapAuthorities");
+
+	private SpringCacheBasedLdapAuthoritiesPopulator populator;
+
+	private DirContextAdapter bob;
+
+	@BeforeEach
+	public void setUp() {
+		this.populator = new SpringCacheBasedLdapAuthoritiesPopulator(this.delegate, this.cache);
+		this.bob = new DirContextAdapter(new DistinguishedName("uid=bob,ou=people"));
+		List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_USER");
+		given(this.delegate.getGrantedAuthorities(any(), anyString())).willAnswer((invocation) -> authorities);
+	}
+
+	@Test
+	public void constructorWhenNullDelegateThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SpringCacheBasedLdapAuthoritiesPopulator(null, this.cache));
+	}
+
+	@Test
+	public void constructorWhenNullCacheThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SpringCacheBasedLdapAuthoritiesPopulator(this.delegate, null));
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenCachedThenDelegateInvokedOnce() {
+		Collection<? extends GrantedAuthority> first = this.populator.getGrantedAuthorities(this.bob, "bob");
+		Collection<? extends GrantedAuthority> second = this.populator.getGrantedAuthorities(this.bob, "bob");
+		assertThat(AuthorityUtils.authorityListToSet(first)).containsExactly("ROLE_USER");
+		assertThat(second).isSameAs(first);
+		verify(this.delegate).getGrantedAuthorities(this.bob, "bob");
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenEvictedThenDelegateInvokedAgain() {
+		this.populator.getGrantedAuthorities(this.bob, "bob");
+		this.populator.evict(this.bob.getNameInNamespace());
+		this.populator.getGrantedAuthorities(this.bob, "bob");
+		verify(this.delegate, times(2)).getGrantedAuthorities(this.bob, "bob");
+	}
+
+	@Test
+	public void getGrantedAuthoritiesWhenClearedThenDelegateInvokedAgain() {
+		this.populator.getGrantedAuthorities(this.bob, "bob");
+		this.populator.clear();
+		this.populator.getGrantedAuthorities(this.bob, "bob");
+		verify(this.delegate, times(2)).getGrantedAuthorities(this.bob, "bob");
+	}
+
+}
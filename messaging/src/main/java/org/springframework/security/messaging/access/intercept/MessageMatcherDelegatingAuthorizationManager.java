@@ -17,6 +17,7 @@
 package org.springframework.security.messaging.access.intercept;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -26,7 +27,9 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.log.LogMessage;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
 import org.springframework.security.authorization.AuthorityAuthorizationManager;
 import org.springframework.security.authorization.AuthorizationDecision;
@@ -46,10 +49,26 @@ public final class MessageMatcherDelegatingAuthorizationManager implements Autho
 
 	private final List<Entry<AuthorizationManager<MessageAuthorizationContext<?>>>> mappings;
 
+	private final Map<SimpMessageType, List<Entry<AuthorizationManager<MessageAuthorizationContext<?>>>>> typeMappings;
+
 	private MessageMatcherDelegatingAuthorizationManager(
 			List<Entry<AuthorizationManager<MessageAuthorizationContext<?>>>> mappings) {
 		Assert.notEmpty(mappings, "mappings cannot be empty");
-		this.mappings = mappings;
+		this.mappings = new ArrayList<>(mappings);
+		this.typeMappings = new EnumMap<>(SimpMessageType.class);
+		for (SimpMessageType type : SimpMessageType.values()) {
+			Message<?> message = MessageBuilder.withPayload(type)
+				.setHeader(SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER, type)
+				.build();
+			List<Entry<AuthorizationManager<MessageAuthorizationContext<?>>>> candidates = new ArrayList<>();
+			for (Entry<AuthorizationManager<MessageAuthorizationContext<?>>> mapping : this.mappings) {
+				MessageMatcher<?> typeMatcher = typeMatcher(mapping.getMessageMatcher());
+				if (typeMatcher == null || typeMatcher.matches((Message) message)) {
+					candidates.add(mapping);
+				}
+			}
+			this.typeMappings.put(type, candidates);
+		}
 	}
 
 	/**
@@ -66,7 +85,7 @@ public final class MessageMatcherDelegatingAuthorizationManager implements Autho
 		if (this.logger.isTraceEnabled()) {
 			this.logger.trace(LogMessage.format("Authorizing message"));
 		}
-		for (Entry<AuthorizationManager<MessageAuthorizationContext<?>>> mapping : this.mappings) {
+		for (Entry<AuthorizationManager<MessageAuthorizationContext<?>>> mapping : candidates(message)) {
 			MessageMatcher<?> matcher = mapping.getMessageMatcher();
 			MessageAuthorizationContext<?> authorizationContext = authorizationContext(matcher, message);
 			if (authorizationContext != null) {
@@ -81,6 +100,30 @@ public final class MessageMatcherDelegatingAuthorizationManager implements Autho
 		return null;
 	}
 
+	private List<Entry<AuthorizationManager<MessageAuthorizationContext<?>>>> candidates(Message<?> message) {
+		SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+		return (type != null) ? this.typeMappings.get(type) : this.mappings;
+	}
+
+	/**
+	 * Returns the {@link MessageMatcher} which must match the {@link SimpMessageType} of
+	 * a message for the given matcher to match it, or {@code null} if the type is not
+	 * known to restrict the given matcher. Used to skip mappings which cannot match a
+	 * message of a given type without evaluating their destination patterns.
+	 */
+	private static MessageMatcher<?> typeMatcher(MessageMatcher<?> matcher) {
+		if (matcher instanceof Builder.LazySimpDestinationMessageMatcher lazy) {
+			return (lazy.type != null) ? new SimpMessageTypeMatcher(lazy.type) : null;
+		}
+		if (matcher instanceof SimpDestinationMessageMatcher simp) {
+			return simp.getMessageTypeMatcher();
+		}
+		if (matcher.getClass() == SimpMessageTypeMatcher.class) {
+			return matcher;
+		}
+		return null;
+	}
+
 	private MessageAuthorizationContext<?> authorizationContext(MessageMatcher<?> matcher, Message<?> message) {
 		if (!matcher.matches((Message) message)) {
 			return null;
@@ -383,7 +426,10 @@ public final class MessageMatcherDelegatingAuthorizationManager implements Autho
 
 			private final Supplier<SimpDestinationMessageMatcher> delegate;
 
+			private final SimpMessageType type;
+
 			private LazySimpDestinationMessageMatcher(String pattern, SimpMessageType type) {
+				this.type = type;
 				this.delegate = SingletonSupplier.of(() -> {
 					PathMatcher pathMatcher = Builder.this.pathMatcher.get();
 					if (type == null) {
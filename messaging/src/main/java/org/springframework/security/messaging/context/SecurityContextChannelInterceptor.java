@@ -16,12 +16,16 @@
 
 package org.springframework.security.messaging.context;
 
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.ExecutorChannelInterceptor;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -38,6 +42,12 @@ import org.springframework.util.Assert;
  * {@link Authentication} from the specified {@link Message#getHeaders()}.
  * </p>
  *
+ * <p>
+ * Optionally, the {@link SecurityContext} created for a message can be reused for all
+ * later messages of the same simp session carrying the same {@link Authentication}. See
+ * {@link #setCacheSessionSecurityContext(boolean)}.
+ * </p>
+ *
  * @author Rob Winch
  * @since 4.0
  */
@@ -45,6 +55,10 @@ public final class SecurityContextChannelInterceptor implements ExecutorChannelI
 
 	private static final ThreadLocal<Stack<SecurityContext>> originalContext = new ThreadLocal<>();
 
+	private final Map<String, SecurityContext> sessionContexts = new ConcurrentHashMap<>();
+
+	private boolean cacheSessionSecurityContext;
+
 	private SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder
 		.getContextHolderStrategy();
 
@@ -114,6 +128,27 @@ public final class SecurityContextChannelInterceptor implements ExecutorChannelI
 	public void setSecurityContextHolderStrategy(SecurityContextHolderStrategy strategy) {
 		this.securityContextHolderStrategy = strategy;
 		this.empty = this.securityContextHolderStrategy.createEmptyContext();
+		this.sessionContexts.clear();
+	}
+
+	/**
+	 * Whether to reuse the {@link SecurityContext} created for the
+	 * {@link SimpMessageType#CONNECT} message of a simp session for all later messages of
+	 * the same session, as long as they carry the same {@link Authentication}. The cached
+	 * {@link SecurityContext} of a session is removed when its
+	 * {@link SimpMessageType#DISCONNECT} message is received, which the broker also sends
+	 * when the underlying session ends without one. Messages of a session handled after
+	 * its {@link SimpMessageType#DISCONNECT} message do not cache their
+	 * {@link SecurityContext} again. Since the same
+	 * {@link SecurityContext} instance is then shared by concurrently handled messages,
+	 * it must not be modified by message handlers. The default is {@code false}.
+	 * @param cacheSessionSecurityContext whether to cache the {@link SecurityContext}
+	 * per session
+	 * @since 6.2
+	 */
+	public void setCacheSessionSecurityContext(boolean cacheSessionSecurityContext) {
+		this.cacheSessionSecurityContext = cacheSessionSecurityContext;
+		this.sessionContexts.clear();
 	}
 
 	private void setup(Message<?> message) {
@@ -126,9 +161,45 @@ public final class SecurityContextChannelInterceptor implements ExecutorChannelI
 		contextStack.push(currentContext);
 		Object user = message.getHeaders().get(this.authenticationHeaderName);
 		Authentication authentication = getAuthentication(user);
+		SecurityContext context = this.cacheSessionSecurityContext ? getSessionContext(message, authentication)
+				: createContext(authentication);
+		this.securityContextHolderStrategy.setContext(context);
+	}
+
+	private SecurityContext getSessionContext(Message<?> message, Authentication authentication) {
+		MessageHeaders headers = message.getHeaders();
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+		if (sessionId == null) {
+			return createContext(authentication);
+		}
+		SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
+		if (messageType == SimpMessageType.DISCONNECT || messageType == SimpMessageType.DISCONNECT_ACK) {
+			this.sessionContexts.remove(sessionId);
+			return createContext(authentication);
+		}
+		if (messageType == SimpMessageType.CONNECT) {
+			SecurityContext context = createContext(authentication);
+			this.sessionContexts.put(sessionId, context);
+			return context;
+		}
+		// only sessions known from their CONNECT message are cached, so that messages
+		// handled after the DISCONNECT message do not add the session again
+		SecurityContext cached = this.sessionContexts.get(sessionId);
+		if (cached == null) {
+			return createContext(authentication);
+		}
+		if (cached.getAuthentication() == authentication) {
+			return cached;
+		}
+		SecurityContext context = createContext(authentication);
+		this.sessionContexts.replace(sessionId, cached, context);
+		return context;
+	}
+
+	private SecurityContext createContext(Authentication authentication) {
 		SecurityContext context = this.securityContextHolderStrategy.createEmptyContext();
 		context.setAuthentication(authentication);
-		this.securityContextHolderStrategy.setContext(context);
+		return context;
 	}
 
 	private Authentication getAuthentication(Object user) {
@@ -53,6 +53,8 @@ public final class SimpDestinationMessageMatcher implements MessageMatcher<Objec
 
 	private final String pattern;
 
+	private final boolean hasPathVariables;
+
 	/**
 	 * <p>
 	 * Creates a new instance with the specified pattern, null {@link SimpMessageType}
@@ -112,6 +114,7 @@ public final class SimpDestinationMessageMatcher implements MessageMatcher<Objec
 		this.matcher = pathMatcher;
 		this.messageTypeMatcher = (type != null) ? new SimpMessageTypeMatcher(type) : ANY_MESSAGE;
 		this.pattern = pattern;
+		this.hasPathVariables = pattern.indexOf('{') != -1;
 	}
 
 	@Override
@@ -124,6 +127,9 @@ public final class SimpDestinationMessageMatcher implements MessageMatcher<Objec
 	}
 
 	public Map<String, String> extractPathVariables(Message<?> message) {
+		if (!this.hasPathVariables) {
+			return Collections.emptyMap();
+		}
 		final String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
 		return (destination != null) ? this.matcher.extractUriTemplateVariables(this.pattern, destination)
 				: Collections.emptyMap();
@@ -111,6 +111,38 @@ public final class MessageMatcherDelegatingAuthorizationManagerTests {
 		assertThat(authorizationManager.check(mock(Supplier.class), message).isGranted()).isTrue();
 	}
 
+	@Test
+	void checkWhenSimpSubscribeDestinationAndMessageTypeThenSkipsSubscribeMapping() {
+		AuthorizationManager<Message<?>> authorizationManager = builder().simpSubscribeDestMatchers("destination")
+			.denyAll()
+			.simpMessageDestMatchers("destination")
+			.permitAll()
+			.build();
+		MessageHeaders message = new MessageHeaders(Map.of(SimpMessageHeaderAccessor.DESTINATION_HEADER,
+				"destination", SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER, SimpMessageType.MESSAGE));
+		assertThat(authorizationManager.check(mock(Supplier.class), new GenericMessage<>(new Object(), message))
+			.isGranted()).isTrue();
+		MessageHeaders subscribe = new MessageHeaders(Map.of(SimpMessageHeaderAccessor.DESTINATION_HEADER,
+				"destination", SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER, SimpMessageType.SUBSCRIBE));
+		assertThat(authorizationManager.check(mock(Supplier.class), new GenericMessage<>(new Object(), subscribe))
+			.isGranted()).isFalse();
+	}
+
+	@Test
+	void checkWhenCustomMatcherAndMessageTypeThenUses() {
+		AuthorizationManager<Message<?>> authorizationManager = builder().simpTypeMatchers(SimpMessageType.CONNECT)
+			.denyAll()
+			.matchers((message) -> message.getHeaders().containsKey("custom"))
+			.permitAll()
+			.anyMessage()
+			.denyAll()
+			.build();
+		MessageHeaders headers = new MessageHeaders(
+				Map.of("custom", true, SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER, SimpMessageType.MESSAGE));
+		Message<?> message = new GenericMessage<>(new Object(), headers);
+		assertThat(authorizationManager.check(mock(Supplier.class), message).isGranted()).isTrue();
+	}
+
 	private MessageMatcherDelegatingAuthorizationManager.Builder builder() {
 		return MessageMatcherDelegatingAuthorizationManager.builder();
 	}
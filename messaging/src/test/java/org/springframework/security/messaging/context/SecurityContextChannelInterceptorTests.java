@@ -28,11 +28,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.context.SecurityContextImpl;
@@ -259,6 +261,74 @@ public class SecurityContextChannelInterceptorTests {
 		assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(origional);
 	}
 
+	@Test
+	public void preSendWhenCacheSessionSecurityContextThenReusesContextForSession() {
+		this.interceptor.setCacheSessionSecurityContext(true);
+		SecurityContext first = handleInSession("session", this.authentication, SimpMessageType.CONNECT);
+		SecurityContext second = handleInSession("session", this.authentication, SimpMessageType.SUBSCRIBE);
+		assertThat(second).isSameAs(first);
+		assertThat(second.getAuthentication()).isSameAs(this.authentication);
+		handleInSession("other", this.authentication, SimpMessageType.CONNECT);
+		SecurityContext other = handleInSession("other", this.authentication, SimpMessageType.MESSAGE);
+		assertThat(other).isNotSameAs(first);
+	}
+
+	@Test
+	public void preSendWhenCacheSessionSecurityContextAndAuthenticationChangedThenNewContext() {
+		this.interceptor.setCacheSessionSecurityContext(true);
+		SecurityContext first = handleInSession("session", this.authentication, SimpMessageType.CONNECT);
+		Authentication changed = new TestingAuthenticationToken("changed", "pass", "ROLE_USER");
+		SecurityContext second = handleInSession("session", changed, SimpMessageType.MESSAGE);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getAuthentication()).isSameAs(changed);
+		assertThat(handleInSession("session", changed, SimpMessageType.MESSAGE)).isSameAs(second);
+	}
+
+	@Test
+	public void preSendWhenCacheSessionSecurityContextAndDisconnectThenEvicts() {
+		this.interceptor.setCacheSessionSecurityContext(true);
+		SecurityContext first = handleInSession("session", this.authentication, SimpMessageType.CONNECT);
+		handleInSession("session", this.authentication, SimpMessageType.DISCONNECT);
+		SecurityContext second = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Test
+	public void preSendWhenCacheSessionSecurityContextAndMessageAfterDisconnectThenNotCachedAgain() {
+		this.interceptor.setCacheSessionSecurityContext(true);
+		handleInSession("session", this.authentication, SimpMessageType.CONNECT);
+		handleInSession("session", this.authentication, SimpMessageType.DISCONNECT);
+		SecurityContext first = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		SecurityContext second = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Test
+	public void preSendWhenCacheSessionSecurityContextAndNoConnectThenNotCached() {
+		this.interceptor.setCacheSessionSecurityContext(true);
+		SecurityContext first = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		SecurityContext second = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Test
+	public void preSendWhenNoCacheSessionSecurityContextThenNewContextPerMessage() {
+		SecurityContext first = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		SecurityContext second = handleInSession("session", this.authentication, SimpMessageType.MESSAGE);
+		assertThat(second).isNotSameAs(first);
+	}
+
+	private SecurityContext handleInSession(String sessionId, Authentication authentication, SimpMessageType type) {
+		MessageBuilder<String> builder = MessageBuilder.withPayload("payload")
+			.setHeader(SimpMessageHeaderAccessor.SESSION_ID_HEADER, sessionId)
+			.setHeader(SimpMessageHeaderAccessor.MESSAGE_TYPE_HEADER, type)
+			.setHeader(SimpMessageHeaderAccessor.USER_HEADER, authentication);
+		this.interceptor.preSend(builder.build(), this.channel);
+		SecurityContext context = SecurityContextHolder.getContext();
+		this.interceptor.afterSendCompletion(builder.build(), this.channel, true, null);
+		return context;
+	}
+
 	private void assertAnonymous() {
 		Authentication currentAuthentication = SecurityContextHolder.getContext().getAuthentication();
 		assertThat(currentAuthentication).isInstanceOf(AnonymousAuthenticationToken.class);
@@ -27,6 +27,8 @@ import org.springframework.util.PathMatcher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class SimpDestinationMessageMatcherTests {
 
@@ -122,6 +124,15 @@ public class SimpDestinationMessageMatcherTests {
 		assertThat(this.matcher.extractPathVariables(this.messageBuilder.build())).isEmpty();
 	}
 
+	@Test
+	public void extractedVariablesAreEmptyWhenPatternHasNoVariables() {
+		PathMatcher pathMatcher = mock(PathMatcher.class);
+		this.matcher = new SimpDestinationMessageMatcher("/topics/**", pathMatcher);
+		this.messageBuilder.setHeader(SimpMessageHeaderAccessor.DESTINATION_HEADER, "/topics/someTopic");
+		assertThat(this.matcher.extractPathVariables(this.messageBuilder.build())).isEmpty();
+		verifyNoInteractions(pathMatcher);
+	}
+
 	@Test
 	public void typeConstructorParameterIsTransmitted() {
 		this.matcher = SimpDestinationMessageMatcher.createMessageMatcher("/match", this.pathMatcher);
@@ -18,7 +18,11 @@ package org.springframework.security.oauth2.client;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.springframework.lang.Nullable;
@@ -64,6 +68,15 @@ import org.springframework.util.StringUtils;
  * {@link OAuth2AuthorizationFailureHandler} via
  * {@link #setAuthorizationFailureHandler(OAuth2AuthorizationFailureHandler)}.
  *
+ * <h2>Concurrent Authorization</h2>
+ *
+ * <p>
+ * By default, concurrent authorization attempts for the same client registration and
+ * principal each invoke the {@link OAuth2AuthorizedClientProvider}, so that an expired
+ * access token may be requested many times at once. This can be changed via
+ * {@link #setCoalesceAuthorizations(boolean)}, in which case an attempt started while
+ * another one is in progress waits for and shares its result.
+ *
  * @author Joe Grandja
  * @since 5.2
  * @see OAuth2AuthorizedClientManager
@@ -91,6 +104,10 @@ public final class AuthorizedClientServiceOAuth2AuthorizedClientManager implemen
 
 	private OAuth2AuthorizationFailureHandler authorizationFailureHandler;
 
+	private boolean coalesceAuthorizations;
+
+	private final Map<List<String>, CompletableFuture<OAuth2AuthorizedClient>> authorizationsInProgress;
+
 	/**
 	 * Constructs an {@code AuthorizedClientServiceOAuth2AuthorizedClientManager} using
 	 * the provided parameters.
@@ -111,6 +128,7 @@ public final class AuthorizedClientServiceOAuth2AuthorizedClientManager implemen
 		this.authorizationFailureHandler = new RemoveAuthorizedClientOAuth2AuthorizationFailureHandler(
 				(clientRegistrationId, principal, attributes) -> authorizedClientService
 					.removeAuthorizedClient(clientRegistrationId, principal.getName()));
+		this.authorizationsInProgress = new ConcurrentHashMap<>();
 	}
 
 	@Nullable
@@ -140,6 +158,54 @@ public final class AuthorizedClientServiceOAuth2AuthorizedClientManager implemen
 		}
 		OAuth2AuthorizationContext authorizationContext = buildAuthorizationContext(authorizeRequest, principal,
 				contextBuilder);
+		authorizedClient = (this.coalesceAuthorizations)
+				? authorizeOnce(List.of(clientRegistrationId, principal.getName()), authorizationContext, principal)
+				: authorize(authorizationContext, principal);
+		if (authorizedClient == null) {
+			// In the case of re-authorization, the returned `authorizedClient` may be
+			// null if re-authorization is not supported.
+			// For these cases, return the provided
+			// `authorizationContext.authorizedClient`.
+			if (authorizationContext.getAuthorizedClient() != null) {
+				return authorizationContext.getAuthorizedClient();
+			}
+		}
+		return authorizedClient;
+	}
+
+	private OAuth2AuthorizedClient authorizeOnce(List<String> key, OAuth2AuthorizationContext authorizationContext,
+			Authentication principal) {
+		CompletableFuture<OAuth2AuthorizedClient> authorization = new CompletableFuture<>();
+		CompletableFuture<OAuth2AuthorizedClient> inProgress = this.authorizationsInProgress.putIfAbsent(key,
+				authorization);
+		if (inProgress != null) {
+			try {
+				return inProgress.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw ex;
+			}
+		}
+		try {
+			OAuth2AuthorizedClient authorizedClient = authorize(authorizationContext, principal);
+			authorization.complete(authorizedClient);
+			return authorizedClient;
+		}
+		catch (RuntimeException ex) {
+			authorization.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.authorizationsInProgress.remove(key, authorization);
+		}
+	}
+
+	private OAuth2AuthorizedClient authorize(OAuth2AuthorizationContext authorizationContext,
+			Authentication principal) {
+		OAuth2AuthorizedClient authorizedClient;
 		try {
 			authorizedClient = this.authorizedClientProvider.authorize(authorizationContext);
 		}
@@ -151,15 +217,6 @@ public final class AuthorizedClientServiceOAuth2AuthorizedClientManager implemen
 			this.authorizationSuccessHandler.onAuthorizationSuccess(authorizedClient, principal,
 					Collections.emptyMap());
 		}
-		else {
-			// In the case of re-authorization, the returned `authorizedClient` may be
-			// null if re-authorization is not supported.
-			// For these cases, return the provided
-			// `authorizationContext.authorizedClient`.
-			if (authorizationContext.getAuthorizedClient() != null) {
-				return authorizationContext.getAuthorizedClient();
-			}
-		}
 		return authorizedClient;
 	}
 
@@ -235,6 +292,22 @@ public final class AuthorizedClientServiceOAuth2AuthorizedClientManager implemen
 		this.authorizationFailureHandler = authorizationFailureHandler;
 	}
 
+	/**
+	 * Sets whether concurrent authorization attempts for the same client registration
+	 * and principal name are coalesced. When {@code true}, an attempt started while
+	 * another one is in progress does not invoke the
+	 * {@link OAuth2AuthorizedClientProvider} itself, but waits for the attempt in
+	 * progress and returns its {@link OAuth2AuthorizedClient}, or throws its exception.
+	 * This prevents concurrent requests noticing an expired access token from each
+	 * requesting a new one. The default is {@code false}.
+	 * @param coalesceAuthorizations whether to coalesce concurrent authorization
+	 * attempts
+	 * @since 6.2
+	 */
+	public void setCoalesceAuthorizations(boolean coalesceAuthorizations) {
+		this.coalesceAuthorizations = coalesceAuthorizations;
+	}
+
 	/**
 	 * The default implementation of the {@link #setContextAttributesMapper(Function)
 	 * contextAttributesMapper}.
@@ -17,7 +17,9 @@
 package org.springframework.security.oauth2.client;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import reactor.core.publisher.Mono;
@@ -70,6 +72,15 @@ import org.springframework.web.server.ServerWebExchange;
  * {@link #setAuthorizationFailureHandler(ReactiveOAuth2AuthorizationFailureHandler)}.
  * </p>
  *
+ * <h2>Concurrent Authorization</h2>
+ *
+ * <p>
+ * By default, concurrent authorization attempts for the same client registration and
+ * principal each invoke the {@link ReactiveOAuth2AuthorizedClientProvider}. This can be
+ * changed via {@link #setCoalesceAuthorizations(boolean)}, in which case an attempt
+ * started while another one is in progress shares its result.
+ * </p>
+ *
  * @author Ankur Pathak
  * @author Phil Clay
  * @since 5.2.2
@@ -99,6 +110,10 @@ public final class AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager
 
 	private ReactiveOAuth2AuthorizationFailureHandler authorizationFailureHandler;
 
+	private boolean coalesceAuthorizations;
+
+	private final Map<List<String>, Mono<OAuth2AuthorizedClient>> authorizationsInProgress;
+
 	/**
 	 * Constructs an {@code AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager}
 	 * using the provided parameters.
@@ -117,13 +132,28 @@ public final class AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager
 		this.authorizationFailureHandler = new RemoveAuthorizedClientReactiveOAuth2AuthorizationFailureHandler(
 				(clientRegistrationId, principal, attributes) -> this.authorizedClientService
 					.removeAuthorizedClient(clientRegistrationId, principal.getName()));
+		this.authorizationsInProgress = new ConcurrentHashMap<>();
 	}
 
 	@Override
 	public Mono<OAuth2AuthorizedClient> authorize(OAuth2AuthorizeRequest authorizeRequest) {
 		Assert.notNull(authorizeRequest, "authorizeRequest cannot be null");
-		return createAuthorizationContext(authorizeRequest)
-			.flatMap((authorizationContext) -> authorize(authorizationContext, authorizeRequest.getPrincipal()));
+		return createAuthorizationContext(authorizeRequest).flatMap((authorizationContext) -> {
+			Authentication principal = authorizeRequest.getPrincipal();
+			Mono<OAuth2AuthorizedClient> authorization = (this.coalesceAuthorizations)
+					? authorizeOnce(List.of(authorizeRequest.getClientRegistrationId(), principal.getName()),
+							authorizationContext, principal)
+					: authorize(authorizationContext, principal);
+			return authorization
+				.switchIfEmpty(Mono.defer(() -> Mono.justOrEmpty(authorizationContext.getAuthorizedClient())));
+		});
+	}
+
+	private Mono<OAuth2AuthorizedClient> authorizeOnce(List<String> key,
+			OAuth2AuthorizationContext authorizationContext, Authentication principal) {
+		return this.authorizationsInProgress.computeIfAbsent(key, (k) -> authorize(authorizationContext, principal)
+			.doFinally((signal) -> this.authorizationsInProgress.remove(k))
+			.cache());
 	}
 
 	private Mono<OAuth2AuthorizationContext> createAuthorizationContext(OAuth2AuthorizeRequest authorizeRequest) {
@@ -173,8 +203,23 @@ public final class AuthorizedClientServiceReactiveOAuth2AuthorizedClientManager
 			.onErrorResume(OAuth2AuthorizationException.class,
 					(authorizationException) -> this.authorizationFailureHandler
 						.onAuthorizationFailure(authorizationException, principal, Collections.emptyMap())
-						.then(Mono.error(authorizationException)))
-			.switchIfEmpty(Mono.defer(() -> Mono.justOrEmpty(authorizationContext.getAuthorizedClient())));
+						.then(Mono.error(authorizationException)));
+	}
+
+	/**
+	 * Sets whether concurrent authorization attempts for the same client registration
+	 * and principal name are coalesced. When {@code true}, an attempt started while
+	 * another one is in progress does not invoke the
+	 * {@link ReactiveOAuth2AuthorizedClientProvider} itself, but emits the
+	 * {@link OAuth2AuthorizedClient}, or the error, of the attempt in progress. This
+	 * prevents concurrent requests noticing an expired access token from each requesting
+	 * a new one. The default is {@code false}.
+	 * @param coalesceAuthorizations whether to coalesce concurrent authorization
+	 * attempts
+	 * @since 6.2
+	 */
+	public void setCoalesceAuthorizations(boolean coalesceAuthorizations) {
+		this.coalesceAuthorizations = coalesceAuthorizations;
 	}
 
 	/**
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.oauth2.client;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.oauth2.core.AbstractOAuth2Token;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.util.Assert;
+
+/**
+ * The storage shared by {@link InMemoryOAuth2AuthorizedClientService} and
+ * {@link InMemoryReactiveOAuth2AuthorizedClientService}, optionally bounded in size and
+ * discarding {@link OAuth2AuthorizedClient}s that can no longer be used.
+ *
+ * @since 6.2
+ */
+final class InMemoryAuthorizedClientStore {
+
+	private Map<OAuth2AuthorizedClientId, OAuth2AuthorizedClient> authorizedClients;
+
+	private boolean removeExpiredAuthorizedClients;
+
+	private Clock clock = Clock.systemUTC();
+
+	InMemoryAuthorizedClientStore(Map<OAuth2AuthorizedClientId, OAuth2AuthorizedClient> authorizedClients) {
+		this.authorizedClients = new ConcurrentHashMap<>(authorizedClients);
+	}
+
+	OAuth2AuthorizedClient get(OAuth2AuthorizedClientId id) {
+		OAuth2AuthorizedClient authorizedClient = this.authorizedClients.get(id);
+		if (authorizedClient != null && this.removeExpiredAuthorizedClients && isExpired(authorizedClient)) {
+			this.authorizedClients.remove(id, authorizedClient);
+			return null;
+		}
+		return authorizedClient;
+	}
+
+	void put(OAuth2AuthorizedClientId id, OAuth2AuthorizedClient authorizedClient) {
+		this.authorizedClients.put(id, authorizedClient);
+	}
+
+	void remove(OAuth2AuthorizedClientId id) {
+		this.authorizedClients.remove(id);
+	}
+
+	void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "maximumSize must be greater than 0");
+		Map<OAuth2AuthorizedClientId, OAuth2AuthorizedClient> authorizedClients = new LinkedHashMap<>(16, 0.75f,
+				true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<OAuth2AuthorizedClientId, OAuth2AuthorizedClient> eldest) {
+				return size() > maximumSize;
+			}
+
+		};
+		authorizedClients.putAll(this.authorizedClients);
+		this.authorizedClients = Collections.synchronizedMap(authorizedClients);
+	}
+
+	void setRemoveExpiredAuthorizedClients(boolean removeExpiredAuthorizedClients) {
+		this.removeExpiredAuthorizedClients = removeExpiredAuthorizedClients;
+	}
+
+	void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	private boolean isExpired(OAuth2AuthorizedClient authorizedClient) {
+		Instant now = this.clock.instant();
+		if (!isExpired(authorizedClient.getAccessToken(), now)) {
+			return false;
+		}
+		OAuth2RefreshToken refreshToken = authorizedClient.getRefreshToken();
+		return refreshToken == null || isExpired(refreshToken, now);
+	}
+
+	private static boolean isExpired(AbstractOAuth2Token token, Instant now) {
+		return token.getExpiresAt() != null && now.isAfter(token.getExpiresAt());
+	}
+
+}
@@ -16,8 +16,9 @@
 
 package org.springframework.security.oauth2.client;
 
+import java.time.Clock;
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
@@ -39,7 +40,7 @@ import org.springframework.util.Assert;
  */
 public final class InMemoryOAuth2AuthorizedClientService implements OAuth2AuthorizedClientService {
 
-	private final Map<OAuth2AuthorizedClientId, OAuth2AuthorizedClient> authorizedClients;
+	private final InMemoryAuthorizedClientStore authorizedClients;
 
 	private final ClientRegistrationRepository clientRegistrationRepository;
 
@@ -51,7 +52,7 @@ public final class InMemoryOAuth2AuthorizedClientService implements OAuth2Author
 	public InMemoryOAuth2AuthorizedClientService(ClientRegistrationRepository clientRegistrationRepository) {
 		Assert.notNull(clientRegistrationRepository, "clientRegistrationRepository cannot be null");
 		this.clientRegistrationRepository = clientRegistrationRepository;
-		this.authorizedClients = new ConcurrentHashMap<>();
+		this.authorizedClients = new InMemoryAuthorizedClientStore(Collections.emptyMap());
 	}
 
 	/**
@@ -67,7 +68,7 @@ public final class InMemoryOAuth2AuthorizedClientService implements OAuth2Author
 		Assert.notNull(clientRegistrationRepository, "clientRegistrationRepository cannot be null");
 		Assert.notEmpty(authorizedClients, "authorizedClients cannot be empty");
 		this.clientRegistrationRepository = clientRegistrationRepository;
-		this.authorizedClients = new ConcurrentHashMap<>(authorizedClients);
+		this.authorizedClients = new InMemoryAuthorizedClientStore(authorizedClients);
 	}
 
 	@Override
@@ -101,4 +102,42 @@ public final class InMemoryOAuth2AuthorizedClientService implements OAuth2Author
 		}
 	}
 
+	/**
+	 * Sets the maximum number of {@link OAuth2AuthorizedClient}s to keep. Once exceeded,
+	 * the least recently used {@link OAuth2AuthorizedClient} is discarded, and its
+	 * End-User has to authorize the client again. This should be configured before the
+	 * service is used. By default, the number of {@link OAuth2AuthorizedClient}s is not
+	 * limited.
+	 * @param maximumSize the maximum number of {@link OAuth2AuthorizedClient}s
+	 * @since 6.2
+	 */
+	public void setMaximumSize(int maximumSize) {
+		this.authorizedClients.setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * Sets whether an {@link OAuth2AuthorizedClient} is discarded once it can no longer
+	 * be used, which is when its access token has expired and it has either no refresh
+	 * token or a refresh token that has expired as well. Expired
+	 * {@link OAuth2AuthorizedClient}s are discarded when they are loaded, so combine this
+	 * with {@link #setMaximumSize(int)} to also bound those that are never loaded again.
+	 * The default is {@code false}.
+	 * @param removeExpiredAuthorizedClients whether to discard expired
+	 * {@link OAuth2AuthorizedClient}s
+	 * @since 6.2
+	 */
+	public void setRemoveExpiredAuthorizedClients(boolean removeExpiredAuthorizedClients) {
+		this.authorizedClients.setRemoveExpiredAuthorizedClients(removeExpiredAuthorizedClients);
+	}
+
+	/**
+	 * Sets the {@link Clock} used to determine whether an {@link OAuth2AuthorizedClient}
+	 * has expired. The default is {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock}
+	 * @since 6.2
+	 */
+	public void setClock(Clock clock) {
+		this.authorizedClients.setClock(clock);
+	}
+
 }
@@ -16,8 +16,8 @@
 
 package org.springframework.security.oauth2.client;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Clock;
+import java.util.Collections;
 
 import reactor.core.publisher.Mono;
 
@@ -40,7 +40,8 @@ import org.springframework.util.Assert;
  */
 public final class InMemoryReactiveOAuth2AuthorizedClientService implements ReactiveOAuth2AuthorizedClientService {
 
-	private final Map<OAuth2AuthorizedClientId, OAuth2AuthorizedClient> authorizedClients = new ConcurrentHashMap<>();
+	private final InMemoryAuthorizedClientStore authorizedClients = new InMemoryAuthorizedClientStore(
+			Collections.emptyMap());
 
 	private final ReactiveClientRegistrationRepository clientRegistrationRepository;
 
@@ -89,4 +90,42 @@ public final class InMemoryReactiveOAuth2AuthorizedClientService implements Reac
 		// @formatter:on
 	}
 
+	/**
+	 * Sets the maximum number of {@link OAuth2AuthorizedClient}s to keep. Once exceeded,
+	 * the least recently used {@link OAuth2AuthorizedClient} is discarded, and its
+	 * End-User has to authorize the client again. This should be configured before the
+	 * service is used. By default, the number of {@link OAuth2AuthorizedClient}s is not
+	 * limited.
+	 * @param maximumSize the maximum number of {@link OAuth2AuthorizedClient}s
+	 * @since 6.2
+	 */
+	public void setMaximumSize(int maximumSize) {
+		this.authorizedClients.setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * Sets whether an {@link OAuth2AuthorizedClient} is discarded once it can no longer
+	 * be used, which is when its access token has expired and it has either no refresh
+	 * token or a refresh token that has expired as well. Expired
+	 * {@link OAuth2AuthorizedClient}s are discarded when they are loaded, so combine this
+	 * with {@link #setMaximumSize(int)} to also bound those that are never loaded again.
+	 * The default is {@code false}.
+	 * @param removeExpiredAuthorizedClients whether to discard expired
+	 * {@link OAuth2AuthorizedClient}s
+	 * @since 6.2
+	 */
+	public void setRemoveExpiredAuthorizedClients(boolean removeExpiredAuthorizedClients) {
+		this.authorizedClients.setRemoveExpiredAuthorizedClients(removeExpiredAuthorizedClients);
+	}
+
+	/**
+	 * Sets the {@link Clock} used to determine whether an {@link OAuth2AuthorizedClient}
+	 * has expired. The default is {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock}
+	 * @since 6.2
+	 */
+	public void setClock(Clock clock) {
+		this.authorizedClients.setClock(clock);
+	}
+
 }
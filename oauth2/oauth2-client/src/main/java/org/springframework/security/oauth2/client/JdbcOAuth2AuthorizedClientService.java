@@ -27,8 +27,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Function;
 
+import org.springframework.cache.Cache;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
@@ -58,6 +60,13 @@ import org.springframework.util.StringUtils;
  * "classpath:org/springframework/security/oauth2/client/oauth2-client-schema.sql" and
  * therefore MUST be defined in the database schema.
  *
+ * <p>
+ * By default, {@link #saveAuthorizedClient(OAuth2AuthorizedClient, Authentication)}
+ * first queries whether the {@link OAuth2AuthorizedClient} exists and then updates or
+ * inserts it. Databases supporting an atomic upsert can do this in a single statement
+ * configured with {@link #setUpsertAuthorizedClientSql(String)}. Reads can additionally
+ * be served from a {@link Cache} configured with {@link #setAuthorizedClientCache(Cache)}.
+ *
  * @author Joe Grandja
  * @author Stav Shamir
  * @author Craig Andrews
@@ -106,6 +115,8 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			+ " WHERE " + PK_FILTER;
 	// @formatter:on
 
+	private static final int WRITE_GENERATION_STRIPES = 64;
+
 	protected final JdbcOperations jdbcOperations;
 
 	protected RowMapper<OAuth2AuthorizedClient> authorizedClientRowMapper;
@@ -114,6 +125,12 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 
 	protected final LobHandler lobHandler;
 
+	private String upsertAuthorizedClientSql;
+
+	private Cache authorizedClientCache;
+
+	private final AtomicLongArray writeGenerations = new AtomicLongArray(WRITE_GENERATION_STRIPES);
+
 	/**
 	 * Constructs a {@code JdbcOAuth2AuthorizedClientService} using the provided
 	 * parameters.
@@ -153,19 +170,62 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			String principalName) {
 		Assert.hasText(clientRegistrationId, "clientRegistrationId cannot be empty");
 		Assert.hasText(principalName, "principalName cannot be empty");
+		if (this.authorizedClientCache == null) {
+			return (T) queryAuthorizedClient(clientRegistrationId, principalName);
+		}
+		OAuth2AuthorizedClientId id = new OAuth2AuthorizedClientId(clientRegistrationId, principalName);
+		OAuth2AuthorizedClient authorizedClient = this.authorizedClientCache.get(id, OAuth2AuthorizedClient.class);
+		if (authorizedClient == null) {
+			int stripe = getWriteGenerationStripe(id);
+			long writeGeneration = this.writeGenerations.get(stripe);
+			authorizedClient = queryAuthorizedClient(clientRegistrationId, principalName);
+			// Only cache the row if no write completed since it was queried, since it
+			// may otherwise be older than the written one. A write completing right
+			// after the check is detected when checking again after the put.
+			if (authorizedClient != null && this.writeGenerations.get(stripe) == writeGeneration) {
+				this.authorizedClientCache.put(id, authorizedClient);
+				if (this.writeGenerations.get(stripe) != writeGeneration) {
+					this.authorizedClientCache.evict(id);
+				}
+			}
+		}
+		return (T) authorizedClient;
+	}
+
+	private static int getWriteGenerationStripe(OAuth2AuthorizedClientId id) {
+		return Math.floorMod(id.hashCode(), WRITE_GENERATION_STRIPES);
+	}
+
+	private OAuth2AuthorizedClient queryAuthorizedClient(String clientRegistrationId, String principalName) {
 		SqlParameterValue[] parameters = new SqlParameterValue[] {
 				new SqlParameterValue(Types.VARCHAR, clientRegistrationId),
 				new SqlParameterValue(Types.VARCHAR, principalName) };
 		PreparedStatementSetter pss = new ArgumentPreparedStatementSetter(parameters);
 		List<OAuth2AuthorizedClient> result = this.jdbcOperations.query(LOAD_AUTHORIZED_CLIENT_SQL, pss,
 				this.authorizedClientRowMapper);
-		return !result.isEmpty() ? (T) result.get(0) : null;
+		return !result.isEmpty() ? result.get(0) : null;
 	}
 
 	@Override
 	public void saveAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
 		Assert.notNull(authorizedClient, "authorizedClient cannot be null");
 		Assert.notNull(principal, "principal cannot be null");
+		String clientRegistrationId = authorizedClient.getClientRegistration().getRegistrationId();
+		evictAuthorizedClient(clientRegistrationId, principal.getName());
+		try {
+			if (this.upsertAuthorizedClientSql != null) {
+				writeAuthorizedClient(this.upsertAuthorizedClientSql, authorizedClient, principal);
+			}
+			else {
+				insertOrUpdateAuthorizedClient(authorizedClient, principal);
+			}
+		}
+		finally {
+			evictAuthorizedClient(clientRegistrationId, principal.getName());
+		}
+	}
+
+	private void insertOrUpdateAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
 		boolean existsAuthorizedClient = null != this
 			.loadAuthorizedClient(authorizedClient.getClientRegistration().getRegistrationId(), principal.getName());
 		if (existsAuthorizedClient) {
@@ -196,12 +256,24 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 	}
 
 	private void insertAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
+		writeAuthorizedClient(SAVE_AUTHORIZED_CLIENT_SQL, authorizedClient, principal);
+	}
+
+	private void writeAuthorizedClient(String sql, OAuth2AuthorizedClient authorizedClient, Authentication principal) {
 		List<SqlParameterValue> parameters = this.authorizedClientParametersMapper
 			.apply(new OAuth2AuthorizedClientHolder(authorizedClient, principal));
 		try (LobCreator lobCreator = this.lobHandler.getLobCreator()) {
 			PreparedStatementSetter pss = new LobCreatorArgumentPreparedStatementSetter(lobCreator,
 					parameters.toArray());
-			this.jdbcOperations.update(SAVE_AUTHORIZED_CLIENT_SQL, pss);
+			this.jdbcOperations.update(sql, pss);
+		}
+	}
+
+	private void evictAuthorizedClient(String clientRegistrationId, String principalName) {
+		if (this.authorizedClientCache != null) {
+			OAuth2AuthorizedClientId id = new OAuth2AuthorizedClientId(clientRegistrationId, principalName);
+			this.writeGenerations.incrementAndGet(getWriteGenerationStripe(id));
+			this.authorizedClientCache.evict(id);
 		}
 	}
 
@@ -213,7 +285,12 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 				new SqlParameterValue(Types.VARCHAR, clientRegistrationId),
 				new SqlParameterValue(Types.VARCHAR, principalName) };
 		PreparedStatementSetter pss = new ArgumentPreparedStatementSetter(parameters);
-		this.jdbcOperations.update(REMOVE_AUTHORIZED_CLIENT_SQL, pss);
+		try {
+			this.jdbcOperations.update(REMOVE_AUTHORIZED_CLIENT_SQL, pss);
+		}
+		finally {
+			evictAuthorizedClient(clientRegistrationId, principalName);
+		}
 	}
 
 	/**
@@ -241,6 +318,59 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 		this.authorizedClientParametersMapper = authorizedClientParametersMapper;
 	}
 
+	/**
+	 * Sets the SQL statement used to save an {@link OAuth2AuthorizedClient} in a single
+	 * round trip, inserting it or updating the existing row with the same
+	 * {@code client_registration_id} and {@code principal_name}. The statement is given
+	 * the parameters of the {@code authorizedClientParametersMapper} in the order of the
+	 * table's columns, for example on PostgreSQL:
+	 *
+	 * <pre>
+	 * INSERT INTO oauth2_authorized_client (client_registration_id, principal_name,
+	 *     access_token_type, access_token_value, access_token_issued_at,
+	 *     access_token_expires_at, access_token_scopes, refresh_token_value,
+	 *     refresh_token_issued_at)
+	 * VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+	 * ON CONFLICT (client_registration_id, principal_name) DO UPDATE SET
+	 *     access_token_type = EXCLUDED.access_token_type,
+	 *     access_token_value = EXCLUDED.access_token_value,
+	 *     access_token_issued_at = EXCLUDED.access_token_issued_at,
+	 *     access_token_expires_at = EXCLUDED.access_token_expires_at,
+	 *     access_token_scopes = EXCLUDED.access_token_scopes,
+	 *     refresh_token_value = EXCLUDED.refresh_token_value,
+	 *     refresh_token_issued_at = EXCLUDED.refresh_token_issued_at
+	 * </pre>
+	 *
+	 * Other databases can use their {@code MERGE} statement. By default, no upsert
+	 * statement is used, and an existing {@link OAuth2AuthorizedClient} is looked up
+	 * before it is either updated or inserted.
+	 * @param upsertAuthorizedClientSql the SQL statement to use
+	 * @since 6.2
+	 */
+	public final void setUpsertAuthorizedClientSql(String upsertAuthorizedClientSql) {
+		Assert.hasText(upsertAuthorizedClientSql, "upsertAuthorizedClientSql cannot be empty");
+		this.upsertAuthorizedClientSql = upsertAuthorizedClientSql;
+	}
+
+	/**
+	 * Sets the {@link Cache} used to store loaded {@link OAuth2AuthorizedClient}s, keyed
+	 * by {@link OAuth2AuthorizedClientId}. Entries are evicted whenever an
+	 * {@link OAuth2AuthorizedClient} is saved or removed through this service, and a
+	 * loaded {@link OAuth2AuthorizedClient} is not stored if it was saved or removed
+	 * while being loaded, so that an older row cannot replace a newer one. Since such
+	 * writes are only tracked within this instance, the {@link Cache} should be local to
+	 * the application instance, and bounded in size. A {@link Cache} shared by several
+	 * instances should expire entries after a short time. Changes made to the database
+	 * by other means are only seen once the entry expires. By default, no {@link Cache}
+	 * is used.
+	 * @param authorizedClientCache the {@link Cache} to use
+	 * @since 6.2
+	 */
+	public final void setAuthorizedClientCache(Cache authorizedClientCache) {
+		Assert.notNull(authorizedClientCache, "authorizedClientCache cannot be null");
+		this.authorizedClientCache = authorizedClientCache;
+	}
+
 	/**
 	 * The default {@link RowMapper} that maps the current row in
 	 * {@code java.sql.ResultSet} to {@link OAuth2AuthorizedClient}.
@@ -251,6 +381,8 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 
 		protected LobHandler lobHandler = new DefaultLobHandler();
 
+		private boolean tokenValuesAsText;
+
 		public OAuth2AuthorizedClientRowMapper(ClientRegistrationRepository clientRegistrationRepository) {
 			Assert.notNull(clientRegistrationRepository, "clientRegistrationRepository cannot be null");
 			this.clientRegistrationRepository = clientRegistrationRepository;
@@ -261,6 +393,20 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			this.lobHandler = lobHandler;
 		}
 
+		/**
+		 * Sets whether the {@code access_token_value} and {@code refresh_token_value}
+		 * columns hold character data, for example {@code varchar} or {@code text},
+		 * rather than binary large objects. Reading them then bypasses the
+		 * {@link LobHandler}. This must match the setting of
+		 * {@link OAuth2AuthorizedClientParametersMapper#setTokenValuesAsText(boolean)}
+		 * used to write them. The default is {@code false}.
+		 * @param tokenValuesAsText whether token values are stored as character data
+		 * @since 6.2
+		 */
+		public final void setTokenValuesAsText(boolean tokenValuesAsText) {
+			this.tokenValuesAsText = tokenValuesAsText;
+		}
+
 		@Override
 		public OAuth2AuthorizedClient mapRow(ResultSet rs, int rowNum) throws SQLException {
 			String clientRegistrationId = rs.getString("client_registration_id");
@@ -275,8 +421,7 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			if (OAuth2AccessToken.TokenType.BEARER.getValue().equalsIgnoreCase(rs.getString("access_token_type"))) {
 				tokenType = OAuth2AccessToken.TokenType.BEARER;
 			}
-			String tokenValue = new String(this.lobHandler.getBlobAsBytes(rs, "access_token_value"),
-					StandardCharsets.UTF_8);
+			String tokenValue = getTokenValue(rs, "access_token_value");
 			Instant issuedAt = rs.getTimestamp("access_token_issued_at").toInstant();
 			Instant expiresAt = rs.getTimestamp("access_token_expires_at").toInstant();
 			Set<String> scopes = Collections.emptySet();
@@ -286,9 +431,9 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			}
 			OAuth2AccessToken accessToken = new OAuth2AccessToken(tokenType, tokenValue, issuedAt, expiresAt, scopes);
 			OAuth2RefreshToken refreshToken = null;
-			byte[] refreshTokenValue = this.lobHandler.getBlobAsBytes(rs, "refresh_token_value");
+			String refreshTokenValue = getTokenValue(rs, "refresh_token_value");
 			if (refreshTokenValue != null) {
-				tokenValue = new String(refreshTokenValue, StandardCharsets.UTF_8);
+				tokenValue = refreshTokenValue;
 				issuedAt = null;
 				Timestamp refreshTokenIssuedAt = rs.getTimestamp("refresh_token_issued_at");
 				if (refreshTokenIssuedAt != null) {
@@ -300,6 +445,14 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			return new OAuth2AuthorizedClient(clientRegistration, principalName, accessToken, refreshToken);
 		}
 
+		private String getTokenValue(ResultSet rs, String columnName) throws SQLException {
+			if (this.tokenValuesAsText) {
+				return rs.getString(columnName);
+			}
+			byte[] tokenValue = this.lobHandler.getBlobAsBytes(rs, columnName);
+			return (tokenValue != null) ? new String(tokenValue, StandardCharsets.UTF_8) : null;
+		}
+
 	}
 
 	/**
@@ -309,6 +462,21 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 	public static class OAuth2AuthorizedClientParametersMapper
 			implements Function<OAuth2AuthorizedClientHolder, List<SqlParameterValue>> {
 
+		private boolean tokenValuesAsText;
+
+		/**
+		 * Sets whether the {@code access_token_value} and {@code refresh_token_value}
+		 * columns hold character data, for example {@code varchar} or {@code text},
+		 * rather than binary large objects. Token values are then written as
+		 * {@link Types#VARCHAR} parameters, which avoids the {@link LobHandler}. The
+		 * default is {@code false}.
+		 * @param tokenValuesAsText whether token values are stored as character data
+		 * @since 6.2
+		 */
+		public final void setTokenValuesAsText(boolean tokenValuesAsText) {
+			this.tokenValuesAsText = tokenValuesAsText;
+		}
+
 		@Override
 		public List<SqlParameterValue> apply(OAuth2AuthorizedClientHolder authorizedClientHolder) {
 			OAuth2AuthorizedClient authorizedClient = authorizedClientHolder.getAuthorizedClient();
@@ -320,8 +488,7 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 			parameters.add(new SqlParameterValue(Types.VARCHAR, clientRegistration.getRegistrationId()));
 			parameters.add(new SqlParameterValue(Types.VARCHAR, principal.getName()));
 			parameters.add(new SqlParameterValue(Types.VARCHAR, accessToken.getTokenType().getValue()));
-			parameters
-				.add(new SqlParameterValue(Types.BLOB, accessToken.getTokenValue().getBytes(StandardCharsets.UTF_8)));
+			parameters.add(tokenValueParameter(accessToken.getTokenValue()));
 			parameters.add(new SqlParameterValue(Types.TIMESTAMP, Timestamp.from(accessToken.getIssuedAt())));
 			parameters.add(new SqlParameterValue(Types.TIMESTAMP, Timestamp.from(accessToken.getExpiresAt())));
 			String accessTokenScopes = null;
@@ -329,19 +496,27 @@ public class JdbcOAuth2AuthorizedClientService implements OAuth2AuthorizedClient
 				accessTokenScopes = StringUtils.collectionToDelimitedString(accessToken.getScopes(), ",");
 			}
 			parameters.add(new SqlParameterValue(Types.VARCHAR, accessTokenScopes));
-			byte[] refreshTokenValue = null;
+			String refreshTokenValue = null;
 			Timestamp refreshTokenIssuedAt = null;
 			if (refreshToken != null) {
-				refreshTokenValue = refreshToken.getTokenValue().getBytes(StandardCharsets.UTF_8);
+				refreshTokenValue = refreshToken.getTokenValue();
 				if (refreshToken.getIssuedAt() != null) {
 					refreshTokenIssuedAt = Timestamp.from(refreshToken.getIssuedAt());
 				}
 			}
-			parameters.add(new SqlParameterValue(Types.BLOB, refreshTokenValue));
+			parameters.add(tokenValueParameter(refreshTokenValue));
 			parameters.add(new SqlParameterValue(Types.TIMESTAMP, refreshTokenIssuedAt));
 			return parameters;
 		}
 
+		private SqlParameterValue tokenValueParameter(String tokenValue) {
+			if (this.tokenValuesAsText) {
+				return new SqlParameterValue(Types.VARCHAR, tokenValue);
+			}
+			byte[] bytes = (tokenValue != null) ? tokenValue.getBytes(StandardCharsets.UTF_8) : null;
+			return new SqlParameterValue(Types.BLOB, bytes);
+		}
+
 	}
 
 	/**
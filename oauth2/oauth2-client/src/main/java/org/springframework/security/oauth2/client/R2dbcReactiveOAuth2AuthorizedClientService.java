@@ -55,6 +55,12 @@ import org.springframework.util.StringUtils;
  * "classpath:org/springframework/security/oauth2/client/oauth2-client-schema.sql" and
  * therefore MUST be defined in the database schema.
  *
+ * <p>
+ * By default, {@link #saveAuthorizedClient(OAuth2AuthorizedClient, Authentication)}
+ * first queries whether the {@link OAuth2AuthorizedClient} exists and then updates or
+ * inserts it. Databases supporting an atomic upsert can do this in a single statement
+ * configured with {@link #setUpsertAuthorizedClientSql(String)}.
+ *
  * @author Ovidiu Popa
  * @since 5.5
  * @see ReactiveOAuth2AuthorizedClientService
@@ -116,6 +122,8 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 
 	protected BiFunction<Row, RowMetadata, OAuth2AuthorizedClientHolder> authorizedClientRowMapper;
 
+	private String upsertAuthorizedClientSql;
+
 	/**
 	 * Constructs a {@code R2dbcReactiveOAuth2AuthorizedClientService} using the provided
 	 * parameters.
@@ -164,6 +172,9 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 	public Mono<Void> saveAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
 		Assert.notNull(authorizedClient, "authorizedClient cannot be null");
 		Assert.notNull(principal, "principal cannot be null");
+		if (this.upsertAuthorizedClientSql != null) {
+			return writeAuthorizedClient(this.upsertAuthorizedClientSql, authorizedClient, principal).then();
+		}
 		return this
 			.loadAuthorizedClient(authorizedClient.getClientRegistration().getRegistrationId(), principal.getName())
 			.flatMap((dbAuthorizedClient) -> updateAuthorizedClient(authorizedClient, principal))
@@ -172,17 +183,16 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 	}
 
 	private Mono<Long> updateAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
-		GenericExecuteSpec executeSpec = this.databaseClient.sql(UPDATE_AUTHORIZED_CLIENT_SQL);
-		for (Entry<String, Parameter> entry : this.authorizedClientParametersMapper
-			.apply(new OAuth2AuthorizedClientHolder(authorizedClient, principal))
-			.entrySet()) {
-			executeSpec = executeSpec.bind(entry.getKey(), entry.getValue());
-		}
-		return executeSpec.fetch().rowsUpdated();
+		return writeAuthorizedClient(UPDATE_AUTHORIZED_CLIENT_SQL, authorizedClient, principal);
 	}
 
 	private Mono<Long> insertAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal) {
-		GenericExecuteSpec executeSpec = this.databaseClient.sql(SAVE_AUTHORIZED_CLIENT_SQL);
+		return writeAuthorizedClient(SAVE_AUTHORIZED_CLIENT_SQL, authorizedClient, principal);
+	}
+
+	private Mono<Long> writeAuthorizedClient(String sql, OAuth2AuthorizedClient authorizedClient,
+			Authentication principal) {
+		GenericExecuteSpec executeSpec = this.databaseClient.sql(sql);
 		for (Entry<String, Parameter> entry : this.authorizedClientParametersMapper
 			.apply(new OAuth2AuthorizedClientHolder(authorizedClient, principal))
 			.entrySet()) {
@@ -228,6 +238,42 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 		this.authorizedClientRowMapper = authorizedClientRowMapper;
 	}
 
+	/**
+	 * Sets the SQL statement used to save an {@link OAuth2AuthorizedClient} in a single
+	 * round trip, inserting it or updating the existing row with the same
+	 * {@code client_registration_id} and {@code principal_name}. The statement is given
+	 * the named parameters of the {@code authorizedClientParametersMapper}, for example
+	 * on PostgreSQL:
+	 *
+	 * <pre>
+	 * INSERT INTO oauth2_authorized_client (client_registration_id, principal_name,
+	 *     access_token_type, access_token_value, access_token_issued_at,
+	 *     access_token_expires_at, access_token_scopes, refresh_token_value,
+	 *     refresh_token_issued_at)
+	 * VALUES (:clientRegistrationId, :principalName, :accessTokenType, :accessTokenValue,
+	 *     :accessTokenIssuedAt, :accessTokenExpiresAt, :accessTokenScopes,
+	 *     :refreshTokenValue, :refreshTokenIssuedAt)
+	 * ON CONFLICT (client_registration_id, principal_name) DO UPDATE SET
+	 *     access_token_type = EXCLUDED.access_token_type,
+	 *     access_token_value = EXCLUDED.access_token_value,
+	 *     access_token_issued_at = EXCLUDED.access_token_issued_at,
+	 *     access_token_expires_at = EXCLUDED.access_token_expires_at,
+	 *     access_token_scopes = EXCLUDED.access_token_scopes,
+	 *     refresh_token_value = EXCLUDED.refresh_token_value,
+	 *     refresh_token_issued_at = EXCLUDED.refresh_token_issued_at
+	 * </pre>
+	 *
+	 * Other databases can use their {@code MERGE} statement. By default, no upsert
+	 * statement is used, and an existing {@link OAuth2AuthorizedClient} is looked up
+	 * before it is either updated or inserted.
+	 * @param upsertAuthorizedClientSql the SQL statement to use
+	 * @since 6.2
+	 */
+	public final void setUpsertAuthorizedClientSql(String upsertAuthorizedClientSql) {
+		Assert.hasText(upsertAuthorizedClientSql, "upsertAuthorizedClientSql cannot be empty");
+		this.upsertAuthorizedClientSql = upsertAuthorizedClientSql;
+	}
+
 	/**
 	 * A holder for {@link OAuth2AuthorizedClient} data and End-User
 	 * {@link Authentication} (Resource Owner).
@@ -301,6 +347,20 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 	public static class OAuth2AuthorizedClientParametersMapper
 			implements Function<OAuth2AuthorizedClientHolder, Map<String, Parameter>> {
 
+		private boolean tokenValuesAsText;
+
+		/**
+		 * Sets whether the {@code access_token_value} and {@code refresh_token_value}
+		 * columns hold character data, for example {@code varchar} or {@code text},
+		 * rather than binary data. Token values are then bound as {@link String}s instead
+		 * of {@link ByteBuffer}s. The default is {@code false}.
+		 * @param tokenValuesAsText whether token values are stored as character data
+		 * @since 6.2
+		 */
+		public final void setTokenValuesAsText(boolean tokenValuesAsText) {
+			this.tokenValuesAsText = tokenValuesAsText;
+		}
+
 		@Override
 		public Map<String, Parameter> apply(OAuth2AuthorizedClientHolder authorizedClientHolder) {
 
@@ -315,8 +375,7 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 					Parameter.fromOrEmpty(authorizedClientHolder.getPrincipalName(), String.class));
 			parameters.put("accessTokenType",
 					Parameter.fromOrEmpty(accessToken.getTokenType().getValue(), String.class));
-			parameters.put("accessTokenValue", Parameter.fromOrEmpty(
-					ByteBuffer.wrap(accessToken.getTokenValue().getBytes(StandardCharsets.UTF_8)), ByteBuffer.class));
+			parameters.put("accessTokenValue", tokenValueParameter(accessToken.getTokenValue()));
 			parameters.put("accessTokenIssuedAt", Parameter
 				.fromOrEmpty(LocalDateTime.ofInstant(accessToken.getIssuedAt(), ZoneOffset.UTC), LocalDateTime.class));
 			parameters.put("accessTokenExpiresAt", Parameter
@@ -327,21 +386,30 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 
 			}
 			parameters.put("accessTokenScopes", Parameter.fromOrEmpty(accessTokenScopes, String.class));
-			ByteBuffer refreshTokenValue = null;
+			String refreshTokenValue = null;
 			LocalDateTime refreshTokenIssuedAt = null;
 			if (refreshToken != null) {
-				refreshTokenValue = ByteBuffer.wrap(refreshToken.getTokenValue().getBytes(StandardCharsets.UTF_8));
+				refreshTokenValue = refreshToken.getTokenValue();
 				if (refreshToken.getIssuedAt() != null) {
 					refreshTokenIssuedAt = LocalDateTime.ofInstant(refreshToken.getIssuedAt(), ZoneOffset.UTC);
 				}
 
 			}
 
-			parameters.put("refreshTokenValue", Parameter.fromOrEmpty(refreshTokenValue, ByteBuffer.class));
+			parameters.put("refreshTokenValue", tokenValueParameter(refreshTokenValue));
 			parameters.put("refreshTokenIssuedAt", Parameter.fromOrEmpty(refreshTokenIssuedAt, LocalDateTime.class));
 			return parameters;
 		}
 
+		private Parameter tokenValueParameter(String tokenValue) {
+			if (this.tokenValuesAsText) {
+				return Parameter.fromOrEmpty(tokenValue, String.class);
+			}
+			ByteBuffer bytes = (tokenValue != null) ? ByteBuffer.wrap(tokenValue.getBytes(StandardCharsets.UTF_8))
+					: null;
+			return Parameter.fromOrEmpty(bytes, ByteBuffer.class);
+		}
+
 	}
 
 	/**
@@ -351,6 +419,21 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 	public static class OAuth2AuthorizedClientRowMapper
 			implements BiFunction<Row, RowMetadata, OAuth2AuthorizedClientHolder> {
 
+		private boolean tokenValuesAsText;
+
+		/**
+		 * Sets whether the {@code access_token_value} and {@code refresh_token_value}
+		 * columns hold character data, for example {@code varchar} or {@code text},
+		 * rather than binary data. This must match the setting of
+		 * {@link OAuth2AuthorizedClientParametersMapper#setTokenValuesAsText(boolean)}
+		 * used to write them. The default is {@code false}.
+		 * @param tokenValuesAsText whether token values are stored as character data
+		 * @since 6.2
+		 */
+		public final void setTokenValuesAsText(boolean tokenValuesAsText) {
+			this.tokenValuesAsText = tokenValuesAsText;
+		}
+
 		@Override
 		public OAuth2AuthorizedClientHolder apply(Row row, RowMetadata rowMetadata) {
 
@@ -360,8 +443,7 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 				.equalsIgnoreCase(row.get("access_token_type", String.class))) {
 				tokenType = OAuth2AccessToken.TokenType.BEARER;
 			}
-			String tokenValue = new String(row.get("access_token_value", ByteBuffer.class).array(),
-					StandardCharsets.UTF_8);
+			String tokenValue = getTokenValue(row, "access_token_value");
 			Instant issuedAt = row.get("access_token_issued_at", LocalDateTime.class).toInstant(ZoneOffset.UTC);
 			Instant expiresAt = row.get("access_token_expires_at", LocalDateTime.class).toInstant(ZoneOffset.UTC);
 
@@ -374,9 +456,9 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 					scopes);
 
 			OAuth2RefreshToken refreshToken = null;
-			ByteBuffer refreshTokenValue = row.get("refresh_token_value", ByteBuffer.class);
+			String refreshTokenValue = getTokenValue(row, "refresh_token_value");
 			if (refreshTokenValue != null) {
-				tokenValue = new String(refreshTokenValue.array(), StandardCharsets.UTF_8);
+				tokenValue = refreshTokenValue;
 				issuedAt = null;
 				LocalDateTime refreshTokenIssuedAt = row.get("refresh_token_issued_at", LocalDateTime.class);
 				if (refreshTokenIssuedAt != null) {
@@ -389,6 +471,14 @@ public class R2dbcReactiveOAuth2AuthorizedClientService implements ReactiveOAuth
 			return new OAuth2AuthorizedClientHolder(dbClientRegistrationId, dbPrincipalName, accessToken, refreshToken);
 		}
 
+		private String getTokenValue(Row row, String name) {
+			if (this.tokenValuesAsText) {
+				return row.get(name, String.class);
+			}
+			ByteBuffer tokenValue = row.get(name, ByteBuffer.class);
+			return (tokenValue != null) ? new String(tokenValue.array(), StandardCharsets.UTF_8) : null;
+		}
+
 	}
 
 }
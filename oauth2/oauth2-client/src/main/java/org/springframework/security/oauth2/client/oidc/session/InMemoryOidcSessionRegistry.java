@@ -16,10 +16,12 @@
 
 package org.springframework.security.oauth2.client.oidc.session;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
@@ -33,6 +35,11 @@ import org.springframework.security.oauth2.client.oidc.authentication.logout.Oid
 /**
  * An in-memory implementation of {@link OidcSessionRegistry}
  *
+ * <p>
+ * Sessions are additionally indexed by the issuer and the provider's session id, as well
+ * as by the issuer and the subject, so that removing the sessions for an
+ * {@link OidcLogoutToken} only visits the sessions it could match.
+ *
  * @author Josh Cummings
  * @since 6.2
  */
@@ -42,15 +49,24 @@ public final class InMemoryOidcSessionRegistry implements OidcSessionRegistry {
 
 	private final Map<String, OidcSessionInformation> sessions = new ConcurrentHashMap<>();
 
+	private final Map<List<String>, Set<String>> sessionIdsByProviderSessionId = new ConcurrentHashMap<>();
+
+	private final Map<List<String>, Set<String>> sessionIdsBySubject = new ConcurrentHashMap<>();
+
 	@Override
 	public void saveSessionInformation(OidcSessionInformation info) {
-		this.sessions.put(info.getSessionId(), info);
+		index(info);
+		OidcSessionInformation previous = this.sessions.put(info.getSessionId(), info);
+		if (previous != null) {
+			unindex(previous, info);
+		}
 	}
 
 	@Override
 	public OidcSessionInformation removeSessionInformation(String clientSessionId) {
 		OidcSessionInformation information = this.sessions.remove(clientSessionId);
 		if (information != null) {
+			unindex(information, null);
 			this.logger.trace("Removed client session");
 		}
 		return information;
@@ -74,14 +90,23 @@ public final class InMemoryOidcSessionRegistry implements OidcSessionRegistry {
 			}
 		}
 		int size = this.sessions.size();
+		Set<String> candidates = null;
+		if (providerSessionId != null) {
+			candidates = this.sessionIdsByProviderSessionId.get(List.of(issuer, providerSessionId));
+		}
+		else if (subject != null) {
+			candidates = this.sessionIdsBySubject.get(List.of(issuer, subject));
+		}
 		Set<OidcSessionInformation> infos = new HashSet<>();
-		this.sessions.values().removeIf((info) -> {
-			boolean result = matcher.test(info);
-			if (result) {
-				infos.add(info);
+		if (candidates != null) {
+			for (String clientSessionId : new ArrayList<>(candidates)) {
+				OidcSessionInformation info = this.sessions.get(clientSessionId);
+				if (info != null && matcher.test(info) && this.sessions.remove(clientSessionId, info)) {
+					unindex(info, null);
+					infos.add(info);
+				}
 			}
-			return result;
-		});
+		}
 		if (infos.isEmpty()) {
 			this.logger.debug("Failed to remove any sessions since none matched");
 		}
@@ -92,6 +117,59 @@ public final class InMemoryOidcSessionRegistry implements OidcSessionRegistry {
 		return infos;
 	}
 
+	private void index(OidcSessionInformation info) {
+		addIndex(this.sessionIdsByProviderSessionId, providerSessionIdKey(info), info.getSessionId());
+		addIndex(this.sessionIdsBySubject, subjectKey(info), info.getSessionId());
+	}
+
+	private void unindex(OidcSessionInformation info, OidcSessionInformation replacement) {
+		List<String> providerSessionIdKey = providerSessionIdKey(info);
+		if (replacement == null || !Objects.equals(providerSessionIdKey, providerSessionIdKey(replacement))) {
+			removeIndex(this.sessionIdsByProviderSessionId, providerSessionIdKey, info.getSessionId());
+		}
+		List<String> subjectKey = subjectKey(info);
+		if (replacement == null || !Objects.equals(subjectKey, subjectKey(replacement))) {
+			removeIndex(this.sessionIdsBySubject, subjectKey, info.getSessionId());
+		}
+	}
+
+	private static void addIndex(Map<List<String>, Set<String>> index, List<String> key, String clientSessionId) {
+		if (key == null) {
+			return;
+		}
+		index.compute(key, (k, clientSessionIds) -> {
+			Set<String> result = (clientSessionIds != null) ? clientSessionIds : ConcurrentHashMap.newKeySet();
+			result.add(clientSessionId);
+			return result;
+		});
+	}
+
+	private static void removeIndex(Map<List<String>, Set<String>> index, List<String> key, String clientSessionId) {
+		if (key == null) {
+			return;
+		}
+		index.computeIfPresent(key, (k, clientSessionIds) -> {
+			clientSessionIds.remove(clientSessionId);
+			return clientSessionIds.isEmpty() ? null : clientSessionIds;
+		});
+	}
+
+	private static List<String> providerSessionIdKey(OidcSessionInformation info) {
+		String providerSessionId = info.getPrincipal().getClaimAsString(LogoutTokenClaimNames.SID);
+		if (info.getPrincipal().getIssuer() == null || providerSessionId == null) {
+			return null;
+		}
+		return List.of(info.getPrincipal().getIssuer().toString(), providerSessionId);
+	}
+
+	private static List<String> subjectKey(OidcSessionInformation info) {
+		String subject = info.getPrincipal().getSubject();
+		if (info.getPrincipal().getIssuer() == null || subject == null) {
+			return null;
+		}
+		return List.of(info.getPrincipal().getIssuer().toString(), subject);
+	}
+
 	private static Predicate<OidcSessionInformation> sessionIdMatcher(List<String> audience, String issuer,
 			String sessionId) {
 		return (session) -> {
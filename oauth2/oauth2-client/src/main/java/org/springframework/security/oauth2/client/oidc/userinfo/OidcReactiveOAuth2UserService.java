@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import reactor.core.publisher.Mono;
 
@@ -71,6 +72,8 @@ public class OidcReactiveOAuth2UserService implements ReactiveOAuth2UserService<
 	private Function<ClientRegistration, Converter<Map<String, Object>, Map<String, Object>>> claimTypeConverterFactory = (
 			clientRegistration) -> DEFAULT_CLAIM_TYPE_CONVERTER;
 
+	private Predicate<OidcUserRequest> retrieveUserInfo = OidcUserRequestUtils::shouldRetrieveUserInfo;
+
 	/**
 	 * Returns the default {@link Converter}'s used for type conversion of claim values
 	 * for an {@link OidcUserInfo}.
@@ -123,7 +126,7 @@ public class OidcReactiveOAuth2UserService implements ReactiveOAuth2UserService<
 	}
 
 	private Mono<OidcUserInfo> getUserInfo(OidcUserRequest userRequest) {
-		if (!OidcUserRequestUtils.shouldRetrieveUserInfo(userRequest)) {
+		if (!this.retrieveUserInfo.test(userRequest)) {
 			return Mono.empty();
 		}
 		// @formatter:off
@@ -169,4 +172,21 @@ public class OidcReactiveOAuth2UserService implements ReactiveOAuth2UserService<
 		this.claimTypeConverterFactory = claimTypeConverterFactory;
 	}
 
+	/**
+	 * Sets the {@link Predicate} used to determine whether the UserInfo Endpoint should
+	 * be called to retrieve information about the End-User (Resource Owner). This can
+	 * be used to skip the request when the ID Token already carries all claims the
+	 * application needs. The default {@link Predicate} requests the UserInfo resource
+	 * when the client uses the {@code authorization_code} grant, a UserInfo Endpoint is
+	 * configured and at least one of the scopes of the {@link ClientRegistration} was
+	 * granted.
+	 * @param retrieveUserInfo the {@link Predicate} used to determine whether the
+	 * UserInfo Endpoint should be called
+	 * @since 6.2
+	 */
+	public final void setRetrieveUserInfo(Predicate<OidcUserRequest> retrieveUserInfo) {
+		Assert.notNull(retrieveUserInfo, "retrieveUserInfo cannot be null");
+		this.retrieveUserInfo = retrieveUserInfo;
+	}
+
 }
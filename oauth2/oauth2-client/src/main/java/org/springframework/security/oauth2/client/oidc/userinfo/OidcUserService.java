@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.security.oauth2.client.oidc.userinfo;
 
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -23,11 +26,15 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
+import org.springframework.cache.Cache;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.SpringSecurityCoreVersion;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.registration.ClientRegistration.ProviderDetails;
@@ -40,6 +47,7 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.converter.ClaimConversionService;
 import org.springframework.security.oauth2.core.converter.ClaimTypeConverter;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
 import org.springframework.security.oauth2.core.oidc.OidcScopes;
 import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
 import org.springframework.security.oauth2.core.oidc.StandardClaimNames;
@@ -78,6 +86,14 @@ public class OidcUserService implements OAuth2UserService<OidcUserRequest, OidcU
 	private Function<ClientRegistration, Converter<Map<String, Object>, Map<String, Object>>> claimTypeConverterFactory = (
 			clientRegistration) -> DEFAULT_CLAIM_TYPE_CONVERTER;
 
+	private Predicate<OidcUserRequest> retrieveUserInfo = this::shouldRetrieveUserInfo;
+
+	private Cache userInfoCache;
+
+	private Duration userInfoCacheTimeToLive = Duration.ofMinutes(5);
+
+	private Clock clock = Clock.systemUTC();
+
 	/**
 	 * Returns the default {@link Converter}'s used for type conversion of claim values
 	 * for an {@link OidcUserInfo}.
@@ -105,27 +121,8 @@ public class OidcUserService implements OAuth2UserService<OidcUserRequest, OidcU
 	public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
 		Assert.notNull(userRequest, "userRequest cannot be null");
 		OidcUserInfo userInfo = null;
-		if (this.shouldRetrieveUserInfo(userRequest)) {
-			OAuth2User oauth2User = this.oauth2UserService.loadUser(userRequest);
-			Map<String, Object> claims = getClaims(userRequest, oauth2User);
-			userInfo = new OidcUserInfo(claims);
-			// https://openid.net/specs/openid-connect-core-1_0.html#UserInfoResponse
-			// 1) The sub (subject) Claim MUST always be returned in the UserInfo Response
-			if (userInfo.getSubject() == null) {
-				OAuth2Error oauth2Error = new OAuth2Error(INVALID_USER_INFO_RESPONSE_ERROR_CODE);
-				throw new OAuth2AuthenticationException(oauth2Error, oauth2Error.toString());
-			}
-			// 2) Due to the possibility of token substitution attacks (see Section
-			// 16.11),
-			// the UserInfo Response is not guaranteed to be about the End-User
-			// identified by the sub (subject) element of the ID Token.
-			// The sub Claim in the UserInfo Response MUST be verified to exactly match
-			// the sub Claim in the ID Token; if they do not match,
-			// the UserInfo Response values MUST NOT be used.
-			if (!userInfo.getSubject().equals(userRequest.getIdToken().getSubject())) {
-				OAuth2Error oauth2Error = new OAuth2Error(INVALID_USER_INFO_RESPONSE_ERROR_CODE);
-				throw new OAuth2AuthenticationException(oauth2Error, oauth2Error.toString());
-			}
+		if (this.retrieveUserInfo.test(userRequest)) {
+			userInfo = getUserInfo(userRequest);
 		}
 		Set<GrantedAuthority> authorities = new LinkedHashSet<>();
 		authorities.add(new OidcUserAuthority(userRequest.getIdToken(), userInfo));
@@ -136,6 +133,41 @@ public class OidcUserService implements OAuth2UserService<OidcUserRequest, OidcU
 		return getUser(userRequest, userInfo, authorities);
 	}
 
+	private OidcUserInfo getUserInfo(OidcUserRequest userRequest) {
+		UserInfoCacheKey cacheKey = (this.userInfoCache != null) ? new UserInfoCacheKey(userRequest) : null;
+		if (cacheKey != null) {
+			CachedUserInfo cached = this.userInfoCache.get(cacheKey, CachedUserInfo.class);
+			if (cached != null && this.clock.instant().isBefore(cached.expiresAt)) {
+				return cached.userInfo;
+			}
+		}
+		OAuth2User oauth2User = this.oauth2UserService.loadUser(userRequest);
+		Map<String, Object> claims = getClaims(userRequest, oauth2User);
+		OidcUserInfo userInfo = new OidcUserInfo(claims);
+		// https://openid.net/specs/openid-connect-core-1_0.html#UserInfoResponse
+		// 1) The sub (subject) Claim MUST always be returned in the UserInfo Response
+		if (userInfo.getSubject() == null) {
+			OAuth2Error oauth2Error = new OAuth2Error(INVALID_USER_INFO_RESPONSE_ERROR_CODE);
+			throw new OAuth2AuthenticationException(oauth2Error, oauth2Error.toString());
+		}
+		// 2) Due to the possibility of token substitution attacks (see Section
+		// 16.11),
+		// the UserInfo Response is not guaranteed to be about the End-User
+		// identified by the sub (subject) element of the ID Token.
+		// The sub Claim in the UserInfo Response MUST be verified to exactly match
+		// the sub Claim in the ID Token; if they do not match,
+		// the UserInfo Response values MUST NOT be used.
+		if (!userInfo.getSubject().equals(userRequest.getIdToken().getSubject())) {
+			OAuth2Error oauth2Error = new OAuth2Error(INVALID_USER_INFO_RESPONSE_ERROR_CODE);
+			throw new OAuth2AuthenticationException(oauth2Error, oauth2Error.toString());
+		}
+		if (cacheKey != null) {
+			Instant expiresAt = this.clock.instant().plus(this.userInfoCacheTimeToLive);
+			this.userInfoCache.put(cacheKey, new CachedUserInfo(userInfo, expiresAt));
+		}
+		return userInfo;
+	}
+
 	private Map<String, Object> getClaims(OidcUserRequest userRequest, OAuth2User oauth2User) {
 		Converter<Map<String, Object>, Map<String, Object>> converter = this.claimTypeConverterFactory
 			.apply(userRequest.getClientRegistration());
@@ -227,4 +259,90 @@ public class OidcUserService implements OAuth2UserService<OidcUserRequest, OidcU
 		this.accessibleScopes = accessibleScopes;
 	}
 
+	/**
+	 * Sets the {@link Predicate} used to determine whether the UserInfo Endpoint should
+	 * be called to retrieve information about the End-User (Resource Owner). This can
+	 * be used to skip the request when the ID Token already carries all claims the
+	 * application needs. The default {@link Predicate} requests the UserInfo resource
+	 * when the client uses the {@code authorization_code} grant, a UserInfo Endpoint is
+	 * configured and either at least one of the {@link #setAccessibleScopes(Set)
+	 * accessible scopes} was granted or the granted scopes are unknown.
+	 * @param retrieveUserInfo the {@link Predicate} used to determine whether the
+	 * UserInfo Endpoint should be called
+	 * @since 6.2
+	 */
+	public final void setRetrieveUserInfo(Predicate<OidcUserRequest> retrieveUserInfo) {
+		Assert.notNull(retrieveUserInfo, "retrieveUserInfo cannot be null");
+		this.retrieveUserInfo = retrieveUserInfo;
+	}
+
+	/**
+	 * Sets the {@link Cache} used to store UserInfo responses, so that logging in again
+	 * does not request the UserInfo resource again. Entries are keyed by the
+	 * {@link ClientRegistration#getRegistrationId() registration id}, the
+	 * {@link OidcIdToken#getSubject() subject} of the ID Token, which identifies the
+	 * End-User before the UserInfo resource is requested, and the granted scopes. Only
+	 * responses whose {@code sub} Claim matches the ID Token are stored. Entries are
+	 * reused for the {@link #setUserInfoCacheTimeToLive(Duration) time to live}, so
+	 * changes to the End-User's claims may not be visible for that long. By default, no
+	 * {@link Cache} is used.
+	 * @param userInfoCache the {@link Cache} to use
+	 * @since 6.2
+	 */
+	public final void setUserInfoCache(Cache userInfoCache) {
+		Assert.notNull(userInfoCache, "userInfoCache cannot be null");
+		this.userInfoCache = userInfoCache;
+	}
+
+	/**
+	 * Sets how long a UserInfo response stored in the
+	 * {@link #setUserInfoCache(Cache) UserInfo cache} is reused. The default is 5
+	 * minutes.
+	 * @param userInfoCacheTimeToLive the time a cached UserInfo response is reused
+	 * @since 6.2
+	 */
+	public final void setUserInfoCacheTimeToLive(Duration userInfoCacheTimeToLive) {
+		Assert.notNull(userInfoCacheTimeToLive, "userInfoCacheTimeToLive cannot be null");
+		Assert.isTrue(!userInfoCacheTimeToLive.isNegative() && !userInfoCacheTimeToLive.isZero(),
+				"userInfoCacheTimeToLive must be positive");
+		this.userInfoCacheTimeToLive = userInfoCacheTimeToLive;
+	}
+
+	/**
+	 * Sets the {@link Clock} used to expire cached UserInfo responses. The default is
+	 * {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock} to use
+	 * @since 6.2
+	 */
+	public final void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	private record UserInfoCacheKey(String registrationId, String subject, Set<String> scopes) implements Serializable {
+
+		private static final long serialVersionUID = SpringSecurityCoreVersion.SERIAL_VERSION_UID;
+
+		private UserInfoCacheKey(OidcUserRequest userRequest) {
+			this(userRequest.getClientRegistration().getRegistrationId(), userRequest.getIdToken().getSubject(),
+					new TreeSet<>(userRequest.getAccessToken().getScopes()));
+		}
+
+	}
+
+	private static final class CachedUserInfo implements Serializable {
+
+		private static final long serialVersionUID = SpringSecurityCoreVersion.SERIAL_VERSION_UID;
+
+		private final OidcUserInfo userInfo;
+
+		private final Instant expiresAt;
+
+		private CachedUserInfo(OidcUserInfo userInfo, Instant expiresAt) {
+			this.userInfo = userInfo;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,10 +17,17 @@
 package org.springframework.security.oauth2.client.registration;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import com.nimbusds.oauth2.sdk.ParseException;
@@ -152,6 +159,90 @@ public final class ClientRegistrations {
 		return getBuilder(issuer, oidc(uri), oidcRfc8414(uri), oauth(uri));
 	}
 
+	/**
+	 * Creates a {@link ClientRegistration.Builder} for each of the provided <a href=
+	 * "https://openid.net/specs/openid-connect-core-1_0.html#IssuerIdentifier">Issuers</a>
+	 * in the same way as {@link #fromIssuerLocation(String)}, querying the issuers
+	 * concurrently on the provided {@link ExecutorService} instead of one after the
+	 * other.
+	 *
+	 * <p>
+	 * If the configuration of any issuer cannot be resolved, or is not resolved within
+	 * the provided timeout, an exception is thrown and the lookups still in progress are
+	 * cancelled by interrupting their threads. A lookup blocked reading from an issuer
+	 * may not respond to the interrupt, in which case it occupies its thread until the
+	 * connect and read timeouts of 30 seconds each used for discovery requests expire.
+	 * </p>
+	 *
+	 * <p>
+	 * Example usage:
+	 * </p>
+	 * <pre>
+	 * ExecutorService executor = Executors.newFixedThreadPool(8);
+	 * try {
+	 *     Map&lt;String, ClientRegistration.Builder&gt; builders = ClientRegistrations
+	 *         .fromIssuerLocations(issuers, executor, Duration.ofSeconds(10));
+	 *     ...
+	 * }
+	 * finally {
+	 *     executor.shutdownNow();
+	 * }
+	 * </pre>
+	 * @param issuers the issuers to resolve
+	 * @param executor the {@link ExecutorService} to query the issuers on
+	 * @param timeout the maximum time to wait for all issuers to be resolved
+	 * @return the {@link ClientRegistration.Builder}s, keyed by issuer, in the iteration
+	 * order of the provided issuers
+	 * @since 6.2
+	 */
+	public static Map<String, ClientRegistration.Builder> fromIssuerLocations(Collection<String> issuers,
+			ExecutorService executor, Duration timeout) {
+		Assert.notNull(issuers, "issuers cannot be null");
+		Assert.notNull(executor, "executor cannot be null");
+		Assert.notNull(timeout, "timeout cannot be null");
+		for (String issuer : issuers) {
+			Assert.hasText(issuer, "issuers cannot contain empty values");
+		}
+		long deadline = System.nanoTime() + timeout.toNanos();
+		Map<String, Future<ClientRegistration.Builder>> lookups = new LinkedHashMap<>();
+		Map<String, ClientRegistration.Builder> builders = new LinkedHashMap<>();
+		try {
+			for (String issuer : issuers) {
+				lookups.computeIfAbsent(issuer, (location) -> executor.submit(() -> fromIssuerLocation(location)));
+			}
+			for (Map.Entry<String, Future<ClientRegistration.Builder>> lookup : lookups.entrySet()) {
+				builders.put(lookup.getKey(), awaitBuilder(lookup.getKey(), lookup.getValue(), deadline));
+			}
+		}
+		finally {
+			lookups.values().forEach((lookup) -> lookup.cancel(true));
+		}
+		return builders;
+	}
+
+	private static ClientRegistration.Builder awaitBuilder(String issuer, Future<ClientRegistration.Builder> lookup,
+			long deadline) {
+		try {
+			return lookup.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalArgumentException(
+					"Unable to resolve Configuration with the provided Issuer of \"" + issuer + "\"", ex.getCause());
+		}
+		catch (TimeoutException ex) {
+			throw new IllegalStateException(
+					"Timed out resolving Configuration with the provided Issuer of \"" + issuer + "\"", ex);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(
+					"Interrupted while resolving Configuration with the provided Issuer of \"" + issuer + "\"", ex);
+		}
+	}
+
 	private static Supplier<ClientRegistration.Builder> oidc(URI issuer) {
 		// @formatter:off
 		URI uri = UriComponentsBuilder.fromUri(issuer)
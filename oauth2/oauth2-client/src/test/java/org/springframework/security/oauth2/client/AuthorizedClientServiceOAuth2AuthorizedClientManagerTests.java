@@ -17,6 +17,9 @@
 package org.springframework.security.oauth2.client;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +46,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -371,4 +375,57 @@ public class AuthorizedClientServiceOAuth2AuthorizedClientManagerTests {
 		verifyNoInteractions(this.authorizedClientService);
 	}
 
+	@Test
+	public void authorizeWhenCoalesceAuthorizationsAndConcurrentThenProviderInvokedOnce() throws Exception {
+		this.authorizedClientManager.setCoalesceAuthorizations(true);
+		given(this.clientRegistrationRepository.findByRegistrationId(eq(this.clientRegistration.getRegistrationId())))
+			.willReturn(this.clientRegistration);
+		given(this.authorizedClientService.loadAuthorizedClient(eq(this.clientRegistration.getRegistrationId()),
+				eq(this.principal.getName())))
+			.willReturn(this.authorizedClient);
+		OAuth2AuthorizedClient reauthorizedClient = new OAuth2AuthorizedClient(this.clientRegistration,
+				this.principal.getName(), TestOAuth2AccessTokens.noScopes(), TestOAuth2RefreshTokens.refreshToken());
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		given(this.authorizedClientProvider.authorize(any(OAuth2AuthorizationContext.class)))
+			.willAnswer((invocation) -> {
+				entered.countDown();
+				release.await(5, TimeUnit.SECONDS);
+				return reauthorizedClient;
+			});
+		OAuth2AuthorizeRequest authorizeRequest = OAuth2AuthorizeRequest
+			.withClientRegistrationId(this.clientRegistration.getRegistrationId())
+			.principal(this.principal)
+			.build();
+		CompletableFuture<OAuth2AuthorizedClient> first = CompletableFuture
+			.supplyAsync(() -> this.authorizedClientManager.authorize(authorizeRequest));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<OAuth2AuthorizedClient> second = new CompletableFuture<>();
+		Thread waiting = new Thread(() -> second.complete(this.authorizedClientManager.authorize(authorizeRequest)));
+		waiting.start();
+		while (waiting.getState() != Thread.State.WAITING && !second.isDone()) {
+			Thread.sleep(10);
+		}
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(reauthorizedClient);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(reauthorizedClient);
+		verify(this.authorizedClientProvider).authorize(any(OAuth2AuthorizationContext.class));
+		verify(this.authorizedClientService).saveAuthorizedClient(eq(reauthorizedClient), eq(this.principal));
+	}
+
+	@Test
+	public void authorizeWhenCoalesceAuthorizationsAndSequentialThenProviderInvokedEachTime() {
+		this.authorizedClientManager.setCoalesceAuthorizations(true);
+		OAuth2AuthorizedClient reauthorizedClient = new OAuth2AuthorizedClient(this.clientRegistration,
+				this.principal.getName(), TestOAuth2AccessTokens.noScopes(), TestOAuth2RefreshTokens.refreshToken());
+		given(this.authorizedClientProvider.authorize(any(OAuth2AuthorizationContext.class)))
+			.willReturn(reauthorizedClient);
+		OAuth2AuthorizeRequest reauthorizeRequest = OAuth2AuthorizeRequest.withAuthorizedClient(this.authorizedClient)
+			.principal(this.principal)
+			.build();
+		this.authorizedClientManager.authorize(reauthorizeRequest);
+		this.authorizedClientManager.authorize(reauthorizeRequest);
+		verify(this.authorizedClientProvider, times(2)).authorize(any(OAuth2AuthorizationContext.class));
+	}
+
 }
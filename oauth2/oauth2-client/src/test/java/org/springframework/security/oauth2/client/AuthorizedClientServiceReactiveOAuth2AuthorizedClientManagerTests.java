@@ -23,6 +23,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.PublisherProbe;
 
@@ -508,4 +509,28 @@ public class AuthorizedClientServiceReactiveOAuth2AuthorizedClientManagerTests {
 		assertThat(requestScopeAttribute).contains("read", "write");
 	}
 
+	@Test
+	public void authorizeWhenCoalesceAuthorizationsAndConcurrentThenProviderInvokedOnce() {
+		this.authorizedClientManager.setCoalesceAuthorizations(true);
+		OAuth2AuthorizedClient reauthorizedClient = new OAuth2AuthorizedClient(this.clientRegistration,
+				this.principal.getName(), TestOAuth2AccessTokens.noScopes(), TestOAuth2RefreshTokens.refreshToken());
+		Sinks.One<OAuth2AuthorizedClient> authorization = Sinks.one();
+		given(this.authorizedClientProvider.authorize(any(OAuth2AuthorizationContext.class)))
+			.willReturn(authorization.asMono());
+		OAuth2AuthorizeRequest reauthorizeRequest = OAuth2AuthorizeRequest.withAuthorizedClient(this.authorizedClient)
+			.principal(this.principal)
+			.build();
+		Mono<OAuth2AuthorizedClient> both = this.authorizedClientManager.authorize(reauthorizeRequest)
+			.zipWith(this.authorizedClientManager.authorize(reauthorizeRequest), (a, b) -> {
+				assertThat(b).isSameAs(a);
+				return a;
+			});
+		StepVerifier.create(both)
+			.then(() -> authorization.tryEmitValue(reauthorizedClient))
+			.expectNext(reauthorizedClient)
+			.verifyComplete();
+		verify(this.authorizedClientProvider).authorize(any(OAuth2AuthorizationContext.class));
+		verify(this.authorizedClientService).saveAuthorizedClient(eq(reauthorizedClient), eq(this.principal));
+	}
+
 }
@@ -16,17 +16,23 @@
 
 package org.springframework.security.oauth2.client;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
 import org.springframework.security.oauth2.client.registration.TestClientRegistrations;
 import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -151,6 +157,56 @@ public class InMemoryOAuth2AuthorizedClientServiceTests {
 		assertThat(loadedAuthorizedClient).isEqualTo(authorizedClient);
 	}
 
+	@Test
+	public void setMaximumSizeWhenNotPositiveThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.authorizedClientService.setMaximumSize(0))
+			.withMessage("maximumSize must be greater than 0");
+	}
+
+	@Test
+	public void saveAuthorizedClientWhenMaximumSizeExceededThenLeastRecentlyUsedDiscarded() {
+		this.authorizedClientService.setMaximumSize(2);
+		Authentication principal = new TestingAuthenticationToken(this.principalName1, "password");
+		OAuth2AccessToken accessToken = mock(OAuth2AccessToken.class);
+		this.authorizedClientService.saveAuthorizedClient(
+				new OAuth2AuthorizedClient(this.registration1, this.principalName1, accessToken), principal);
+		this.authorizedClientService.saveAuthorizedClient(
+				new OAuth2AuthorizedClient(this.registration2, this.principalName1, accessToken), principal);
+		this.authorizedClientService.loadAuthorizedClient(this.registration1.getRegistrationId(), this.principalName1);
+		this.authorizedClientService.saveAuthorizedClient(
+				new OAuth2AuthorizedClient(this.registration3, this.principalName1, accessToken), principal);
+		assertThatObject(this.authorizedClientService.loadAuthorizedClient(this.registration1.getRegistrationId(),
+				this.principalName1))
+			.isNotNull();
+		assertThatObject(this.authorizedClientService.loadAuthorizedClient(this.registration2.getRegistrationId(),
+				this.principalName1))
+			.isNull();
+		assertThatObject(this.authorizedClientService.loadAuthorizedClient(this.registration3.getRegistrationId(),
+				this.principalName1))
+			.isNotNull();
+	}
+
+	@Test
+	public void loadAuthorizedClientWhenRemoveExpiredAndExpiredThenReturnNull() {
+		Instant now = Instant.now();
+		this.authorizedClientService.setRemoveExpiredAuthorizedClients(true);
+		this.authorizedClientService.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		Authentication principal = new TestingAuthenticationToken(this.principalName1, "password");
+		OAuth2AccessToken expired = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "token",
+				now.minus(Duration.ofHours(2)), now.minus(Duration.ofHours(1)));
+		this.authorizedClientService.saveAuthorizedClient(
+				new OAuth2AuthorizedClient(this.registration1, this.principalName1, expired), principal);
+		this.authorizedClientService.saveAuthorizedClient(new OAuth2AuthorizedClient(this.registration2,
+				this.principalName1, expired, new OAuth2RefreshToken("refresh", now.minus(Duration.ofHours(2)))),
+				principal);
+		assertThatObject(this.authorizedClientService.loadAuthorizedClient(this.registration1.getRegistrationId(),
+				this.principalName1))
+			.isNull();
+		assertThatObject(this.authorizedClientService.loadAuthorizedClient(this.registration2.getRegistrationId(),
+				this.principalName1))
+			.isNotNull();
+	}
+
 	@Test
 	public void removeAuthorizedClientWhenClientRegistrationIdIsNullThenThrowIllegalArgumentException() {
 		assertThatIllegalArgumentException()
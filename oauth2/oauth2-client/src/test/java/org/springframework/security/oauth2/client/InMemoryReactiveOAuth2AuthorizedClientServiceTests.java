@@ -16,8 +16,10 @@
 
 package org.springframework.security.oauth2.client;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -230,6 +232,23 @@ public class InMemoryReactiveOAuth2AuthorizedClientServiceTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void loadAuthorizedClientWhenRemoveExpiredAndExpiredThenEmpty() {
+		given(this.clientRegistrationRepository.findByRegistrationId(this.clientRegistrationId))
+			.willReturn(Mono.just(this.clientRegistration));
+		this.authorizedClientService.setRemoveExpiredAuthorizedClients(true);
+		this.authorizedClientService
+			.setClock(Clock.fixed(this.accessToken.getExpiresAt().plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+		OAuth2AuthorizedClient authorizedClient = new OAuth2AuthorizedClient(this.clientRegistration,
+				this.principalName, this.accessToken);
+		// @formatter:off
+		Mono<OAuth2AuthorizedClient> saveAndLoad = this.authorizedClientService.saveAuthorizedClient(authorizedClient, this.principal)
+				.then(this.authorizedClientService.loadAuthorizedClient(this.clientRegistrationId, this.principalName));
+		StepVerifier.create(saveAndLoad)
+				.verifyComplete();
+		// @formatter:on
+	}
+
 	@Test
 	public void removeAuthorizedClientWhenClientRegistrationFoundRemovedThenNotFound() {
 		given(this.clientRegistrationRepository.findByRegistrationId(this.clientRegistrationId))
@@ -26,11 +26,13 @@ import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -59,10 +61,15 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Tests for {@link JdbcOAuth2AuthorizedClientService}.
@@ -309,6 +316,113 @@ public class JdbcOAuth2AuthorizedClientServiceTests {
 		verify(authorizedClientParametersMapper).apply(any());
 	}
 
+	@Test
+	public void setUpsertAuthorizedClientSqlWhenEmptyThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.authorizedClientService.setUpsertAuthorizedClientSql(""))
+			.withMessage("upsertAuthorizedClientSql cannot be empty");
+	}
+
+	@Test
+	public void saveAuthorizedClientWhenUpsertSqlSetThenExecutesOnlyUpsert() {
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		JdbcOAuth2AuthorizedClientService authorizedClientService = new JdbcOAuth2AuthorizedClientService(
+				jdbcOperations, this.clientRegistrationRepository);
+		authorizedClientService.setUpsertAuthorizedClientSql("MERGE");
+		Authentication principal = createPrincipal();
+		OAuth2AuthorizedClient authorizedClient = createAuthorizedClient(principal, this.clientRegistration);
+		authorizedClientService.saveAuthorizedClient(authorizedClient, principal);
+		verify(jdbcOperations).update(eq("MERGE"), any(PreparedStatementSetter.class));
+		verifyNoMoreInteractions(jdbcOperations);
+	}
+
+	@Test
+	public void setAuthorizedClientCacheWhenNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.authorizedClientService.setAuthorizedClientCache(null))
+			.withMessage("authorizedClientCache cannot be null");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAuthorizedClientWhenCacheSetThenQueriesOnceUntilSavedOrRemoved() {
+		JdbcOperations jdbcOperations = spy(this.jdbcOperations);
+		JdbcOAuth2AuthorizedClientService authorizedClientService = new JdbcOAuth2AuthorizedClientService(
+				jdbcOperations, this.clientRegistrationRepository);
+		authorizedClientService.setAuthorizedClientCache(new ConcurrentMapCache("authorized-clients"));
+		Authentication principal = createPrincipal();
+		String registrationId = this.clientRegistration.getRegistrationId();
+		authorizedClientService.saveAuthorizedClient(createAuthorizedClient(principal, this.clientRegistration),
+				principal);
+		OAuth2AuthorizedClient loaded = authorizedClientService.loadAuthorizedClient(registrationId,
+				principal.getName());
+		assertThat(authorizedClientService.<OAuth2AuthorizedClient>loadAuthorizedClient(registrationId,
+				principal.getName()))
+			.isSameAs(loaded);
+		// one query to look up the existing client while saving, one to load it
+		verify(jdbcOperations, times(2)).query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class));
+		OAuth2AuthorizedClient updated = createAuthorizedClient(principal, this.clientRegistration, true);
+		authorizedClientService.saveAuthorizedClient(updated, principal);
+		OAuth2AuthorizedClient reloaded = authorizedClientService.loadAuthorizedClient(registrationId,
+				principal.getName());
+		assertThat(reloaded.getAccessToken().getTokenValue()).isEqualTo(updated.getAccessToken().getTokenValue());
+		authorizedClientService.removeAuthorizedClient(registrationId, principal.getName());
+		assertThat(authorizedClientService.<OAuth2AuthorizedClient>loadAuthorizedClient(registrationId,
+				principal.getName()))
+			.isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadAuthorizedClientWhenCacheSetAndSavedWhileLoadingThenNotCached() {
+		JdbcOperations jdbcOperations = spy(this.jdbcOperations);
+		JdbcOAuth2AuthorizedClientService authorizedClientService = new JdbcOAuth2AuthorizedClientService(
+				jdbcOperations, this.clientRegistrationRepository);
+		authorizedClientService.setAuthorizedClientCache(new ConcurrentMapCache("authorized-clients"));
+		Authentication principal = createPrincipal();
+		String registrationId = this.clientRegistration.getRegistrationId();
+		authorizedClientService.saveAuthorizedClient(createAuthorizedClient(principal, this.clientRegistration),
+				principal);
+		OAuth2AuthorizedClient updated = createAuthorizedClient(principal, this.clientRegistration, true);
+		AtomicBoolean saveWhileLoading = new AtomicBoolean(true);
+		willAnswer((invocation) -> {
+			Object result = invocation.callRealMethod();
+			if (saveWhileLoading.getAndSet(false)) {
+				authorizedClientService.saveAuthorizedClient(updated, principal);
+			}
+			return result;
+		}).given(jdbcOperations).query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class));
+		OAuth2AuthorizedClient loaded = authorizedClientService.loadAuthorizedClient(registrationId,
+				principal.getName());
+		assertThat(loaded.getAccessToken().getScopes()).isNotEmpty();
+		OAuth2AuthorizedClient reloaded = authorizedClientService.loadAuthorizedClient(registrationId,
+				principal.getName());
+		assertThat(reloaded.getAccessToken().getScopes()).isEmpty();
+	}
+
+	@Test
+	public void saveLoadAuthorizedClientWhenTokenValuesAsTextThenStoredAsVarchar() {
+		JdbcOperations jdbcOperations = new JdbcTemplate(createDb("varchar-oauth2-client-schema.sql"));
+		JdbcOAuth2AuthorizedClientService authorizedClientService = new JdbcOAuth2AuthorizedClientService(
+				jdbcOperations, this.clientRegistrationRepository);
+		JdbcOAuth2AuthorizedClientService.OAuth2AuthorizedClientRowMapper authorizedClientRowMapper = new JdbcOAuth2AuthorizedClientService.OAuth2AuthorizedClientRowMapper(
+				this.clientRegistrationRepository);
+		authorizedClientRowMapper.setTokenValuesAsText(true);
+		authorizedClientService.setAuthorizedClientRowMapper(authorizedClientRowMapper);
+		JdbcOAuth2AuthorizedClientService.OAuth2AuthorizedClientParametersMapper authorizedClientParametersMapper = new JdbcOAuth2AuthorizedClientService.OAuth2AuthorizedClientParametersMapper();
+		authorizedClientParametersMapper.setTokenValuesAsText(true);
+		authorizedClientService.setAuthorizedClientParametersMapper(authorizedClientParametersMapper);
+		Authentication principal = createPrincipal();
+		OAuth2AuthorizedClient expected = createAuthorizedClient(principal, this.clientRegistration);
+		authorizedClientService.saveAuthorizedClient(expected, principal);
+		OAuth2AuthorizedClient authorizedClient = authorizedClientService
+			.loadAuthorizedClient(this.clientRegistration.getRegistrationId(), principal.getName());
+		assertThat(authorizedClient.getAccessToken().getTokenValue())
+			.isEqualTo(expected.getAccessToken().getTokenValue());
+		assertThat(authorizedClient.getRefreshToken().getTokenValue())
+			.isEqualTo(expected.getRefreshToken().getTokenValue());
+	}
+
 	@Test
 	public void removeAuthorizedClientWhenClientRegistrationIdIsNullThenThrowIllegalArgumentException() {
 		assertThatIllegalArgumentException()
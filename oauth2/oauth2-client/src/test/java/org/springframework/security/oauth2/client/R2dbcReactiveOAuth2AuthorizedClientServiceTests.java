@@ -293,6 +293,46 @@ public class R2dbcReactiveOAuth2AuthorizedClientServiceTests {
 			});
 	}
 
+	@Test
+	public void saveAuthorizedClientWhenUpsertSqlSetThenInsertsAndUpdates() {
+		// @formatter:off
+		this.authorizedClientService.setUpsertAuthorizedClientSql("MERGE INTO oauth2_authorized_client"
+				+ " (client_registration_id, principal_name, access_token_type, access_token_value,"
+				+ " access_token_issued_at, access_token_expires_at, access_token_scopes, refresh_token_value,"
+				+ " refresh_token_issued_at)"
+				+ " KEY (client_registration_id, principal_name)"
+				+ " VALUES (:clientRegistrationId, :principalName, :accessTokenType, :accessTokenValue,"
+				+ " :accessTokenIssuedAt, :accessTokenExpiresAt, :accessTokenScopes, :refreshTokenValue,"
+				+ " :refreshTokenIssuedAt)");
+		// @formatter:on
+		Authentication principal = createPrincipal();
+		OAuth2AuthorizedClient authorizedClient = createAuthorizedClient(principal, this.clientRegistration);
+		this.authorizedClientService.saveAuthorizedClient(authorizedClient, principal)
+			.as(StepVerifier::create)
+			.verifyComplete();
+		OAuth2AuthorizedClient updatedAuthorizedClient = createAuthorizedClient(principal, this.clientRegistration,
+				true);
+		this.authorizedClientService.saveAuthorizedClient(updatedAuthorizedClient, principal)
+			.as(StepVerifier::create)
+			.verifyComplete();
+		this.authorizedClientService
+			.loadAuthorizedClient(this.clientRegistration.getRegistrationId(), principal.getName())
+			.as(StepVerifier::create)
+			.assertNext((savedClient) -> {
+				assertThat(savedClient.getAccessToken().getTokenValue())
+					.isEqualTo(updatedAuthorizedClient.getAccessToken().getTokenValue());
+				assertThat(savedClient.getRefreshToken()).isNull();
+			})
+			.verifyComplete();
+	}
+
+	@Test
+	public void setUpsertAuthorizedClientSqlWhenEmptyThenThrowIllegalArgumentException() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> this.authorizedClientService.setUpsertAuthorizedClientSql(""))
+			.withMessageContaining("upsertAuthorizedClientSql cannot be empty");
+	}
+
 	@Test
 	public void removeAuthorizedClientWhenClientRegistrationIdIsNullThenThrowIllegalArgumentException() {
 		assertThatExceptionOfType(IllegalArgumentException.class)
@@ -82,6 +82,34 @@ public class InMemoryOidcSessionRegistryTests {
 		assertThat(infos).containsExactly(oneSession);
 	}
 
+	@Test
+	public void unregisterWhenRemovedByClientSessionIdThenLogoutTokenMatchesNothing() {
+		InMemoryOidcSessionRegistry sessionRegistry = new InMemoryOidcSessionRegistry();
+		OidcSessionInformation info = TestOidcSessionInformations.create("client");
+		sessionRegistry.saveSessionInformation(info);
+		assertThat(sessionRegistry.removeSessionInformation("client")).isSameAs(info);
+		OidcLogoutToken logoutToken = TestOidcLogoutTokens.withUser(info.getPrincipal()).build();
+		assertThat(sessionRegistry.removeSessionInformation(logoutToken)).isEmpty();
+	}
+
+	@Test
+	public void registerWhenSameClientSessionIdThenLogoutTokenMatchesLatest() {
+		InMemoryOidcSessionRegistry sessionRegistry = new InMemoryOidcSessionRegistry();
+		OidcIdToken idToken = TestOidcIdTokens.idToken().claim("sid", "providerOne").build();
+		OidcSessionInformation oneSession = TestOidcSessionInformations.create("client",
+				new DefaultOidcUser(AuthorityUtils.NO_AUTHORITIES, idToken));
+		sessionRegistry.saveSessionInformation(oneSession);
+		idToken = TestOidcIdTokens.idToken().claim("sid", "providerTwo").build();
+		OidcSessionInformation twoSession = TestOidcSessionInformations.create("client",
+				new DefaultOidcUser(AuthorityUtils.NO_AUTHORITIES, idToken));
+		sessionRegistry.saveSessionInformation(twoSession);
+		String issuer = idToken.getIssuer().toString();
+		OidcLogoutToken logoutToken = TestOidcLogoutTokens.withSessionId(issuer, "providerOne").build();
+		assertThat(sessionRegistry.removeSessionInformation(logoutToken)).isEmpty();
+		logoutToken = TestOidcLogoutTokens.withSessionId(issuer, "providerTwo").build();
+		assertThat(sessionRegistry.removeSessionInformation(logoutToken)).containsExactly(twoSession);
+	}
+
 	@Test
 	public void unregisterWhenNoSessionsThenEmptyList() {
 		InMemoryOidcSessionRegistry sessionRegistry = new InMemoryOidcSessionRegistry();
@@ -16,7 +16,10 @@
 
 package org.springframework.security.oauth2.client.oidc.userinfo;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -31,6 +34,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -127,6 +131,83 @@ public class OidcUserServiceTests {
 		this.userService.setAccessibleScopes(Collections.emptySet());
 	}
 
+	@Test
+	public void setRetrieveUserInfoWhenNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.userService.setRetrieveUserInfo(null))
+			.withMessage("retrieveUserInfo cannot be null");
+	}
+
+	@Test
+	public void loadUserWhenRetrieveUserInfoFalseThenUserInfoEndpointNotRequested() {
+		ClientRegistration clientRegistration = this.clientRegistrationBuilder
+			.userInfoUri(this.server.url("/user").toString())
+			.build();
+		this.userService.setRetrieveUserInfo((userRequest) -> false);
+		OidcUser user = this.userService
+			.loadUser(new OidcUserRequest(clientRegistration, this.accessToken, this.idToken));
+		assertThat(user.getUserInfo()).isNull();
+		assertThat(this.server.getRequestCount()).isZero();
+	}
+
+	@Test
+	public void setUserInfoCacheWhenNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.userService.setUserInfoCache(null))
+			.withMessage("userInfoCache cannot be null");
+	}
+
+	@Test
+	public void setUserInfoCacheTimeToLiveWhenZeroThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.userService.setUserInfoCacheTimeToLive(Duration.ZERO));
+	}
+
+	@Test
+	public void setClockWhenNullThenThrowIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.userService.setClock(null))
+			.withMessage("clock cannot be null");
+	}
+
+	@Test
+	public void loadUserWhenUserInfoCacheThenUserInfoRequestedOncePerSubject() {
+		this.server.enqueue(jsonResponse("{\"sub\": \"subject1\", \"name\": \"first last\"}"));
+		this.server.enqueue(jsonResponse("{\"sub\": \"subject2\", \"name\": \"other\"}"));
+		ClientRegistration clientRegistration = this.clientRegistrationBuilder
+			.userInfoUri(this.server.url("/user").toString())
+			.build();
+		this.userService.setUserInfoCache(new ConcurrentMapCache("user-info"));
+		this.userService.loadUser(new OidcUserRequest(clientRegistration, this.accessToken, this.idToken));
+		OAuth2AccessToken newAccessToken = TestOAuth2AccessTokens.scopes(OidcScopes.OPENID, OidcScopes.PROFILE);
+		OidcUser user = this.userService
+			.loadUser(new OidcUserRequest(clientRegistration, newAccessToken, this.idToken));
+		assertThat(user.getUserInfo().getFullName()).isEqualTo("first last");
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+		OidcIdToken otherIdToken = TestOidcIdTokens.idToken().subject("subject2").build();
+		this.userService.loadUser(new OidcUserRequest(clientRegistration, newAccessToken, otherIdToken));
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void loadUserWhenUserInfoCacheExpiredThenUserInfoRequestedAgain() {
+		String userInfoResponse = "{\"sub\": \"subject1\", \"name\": \"first last\"}";
+		this.server.enqueue(jsonResponse(userInfoResponse));
+		this.server.enqueue(jsonResponse(userInfoResponse));
+		ClientRegistration clientRegistration = this.clientRegistrationBuilder
+			.userInfoUri(this.server.url("/user").toString())
+			.build();
+		Instant now = Instant.parse("2023-07-01T10:00:00Z");
+		this.userService.setUserInfoCache(new ConcurrentMapCache("user-info"));
+		this.userService.setUserInfoCacheTimeToLive(Duration.ofMinutes(1));
+		this.userService.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		OidcUserRequest userRequest = new OidcUserRequest(clientRegistration, this.accessToken, this.idToken);
+		this.userService.loadUser(userRequest);
+		this.userService.setClock(Clock.fixed(now.plusSeconds(59), ZoneOffset.UTC));
+		this.userService.loadUser(userRequest);
+		assertThat(this.server.getRequestCount()).isEqualTo(1);
+		this.userService.setClock(Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC));
+		this.userService.loadUser(userRequest);
+		assertThat(this.server.getRequestCount()).isEqualTo(2);
+	}
+
 	@Test
 	public void loadUserWhenUserRequestIsNullThenThrowIllegalArgumentException() {
 		assertThatIllegalArgumentException().isThrownBy(() -> this.userService.loadUser(null));
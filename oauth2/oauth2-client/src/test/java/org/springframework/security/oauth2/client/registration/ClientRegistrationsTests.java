@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,13 @@
 package org.springframework.security.oauth2.client.registration;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -455,6 +460,88 @@ public class ClientRegistrationsTests {
 		// @formatter:on
 	}
 
+	@Test
+	public void issuersWhenAllResolvedThenBuilderForEachIssuer() throws Exception {
+		String issuer1 = createIssuerFromServer("issuer1");
+		String issuer2 = createIssuerFromServer("issuer2");
+		String body1 = issuerBody(issuer1);
+		String body2 = issuerBody(issuer2);
+		this.server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return switch (request.getPath()) {
+					case "/issuer1/.well-known/openid-configuration" -> buildSuccessMockResponse(body1);
+					case "/issuer2/.well-known/openid-configuration" -> buildSuccessMockResponse(body2);
+					default -> new MockResponse().setResponseCode(404);
+				};
+			}
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Map<String, ClientRegistration.Builder> builders = ClientRegistrations
+				.fromIssuerLocations(List.of(issuer1, issuer2), executor, Duration.ofSeconds(10));
+			assertThat(builders).containsOnlyKeys(issuer1, issuer2);
+			ClientRegistration registration = builders.get(issuer2).clientId("client-id").build();
+			assertThat(registration.getProviderDetails().getIssuerUri()).isEqualTo(issuer2);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void issuersWhenOneNotResolvedThenException() throws Exception {
+		String issuer1 = createIssuerFromServer("issuer1");
+		String issuer2 = createIssuerFromServer("issuer2");
+		String body1 = issuerBody(issuer1);
+		this.server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return switch (request.getPath()) {
+					case "/issuer1/.well-known/openid-configuration" -> buildSuccessMockResponse(body1);
+					default -> new MockResponse().setResponseCode(404);
+				};
+			}
+		});
+		String message = "Unable to resolve Configuration with the provided Issuer of \"" + issuer2 + "\"";
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// @formatter:off
+			assertThatIllegalArgumentException()
+					.isThrownBy(() -> ClientRegistrations
+							.fromIssuerLocations(List.of(issuer1, issuer2), executor, Duration.ofSeconds(10)))
+					.withMessageContaining(message);
+			// @formatter:on
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void issuersWhenNotResolvedInTimeThenException() throws Exception {
+		String issuer = createIssuerFromServer("issuer1");
+		this.server.enqueue(buildSuccessMockResponse(issuerBody(issuer)).setHeadersDelay(5, TimeUnit.SECONDS));
+		String message = "Timed out resolving Configuration with the provided Issuer of \"" + issuer + "\"";
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// @formatter:off
+			assertThatIllegalStateException()
+					.isThrownBy(() -> ClientRegistrations
+							.fromIssuerLocations(List.of(issuer), executor, Duration.ofMillis(100)))
+					.withMessageContaining(message);
+			// @formatter:on
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private String issuerBody(String issuer) throws Exception {
+		this.response.put("issuer", issuer);
+		return this.mapper.writeValueAsString(this.response);
+	}
+
 	private ClientRegistration.Builder registration(String path) throws Exception {
 		this.issuer = createIssuerFromServer(path);
 		this.response.put("issuer", this.issuer);
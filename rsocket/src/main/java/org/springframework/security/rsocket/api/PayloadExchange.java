@@ -16,8 +16,11 @@
 
 package org.springframework.security.rsocket.api;
 
+import java.util.Map;
+
 import io.rsocket.Payload;
 
+import org.springframework.messaging.rsocket.MetadataExtractor;
 import org.springframework.util.MimeType;
 
 /**
@@ -36,4 +39,18 @@ public interface PayloadExchange {
 
 	MimeType getMetadataMimeType();
 
+	/**
+	 * Extracts the metadata of the {@link #getPayload() payload} using the given
+	 * {@link MetadataExtractor}. Implementations may decode the metadata only once per
+	 * {@link MetadataExtractor} and metadata {@link MimeType}, and share the result
+	 * between all callers, so the returned {@link Map} must not be modified.
+	 * @param metadataExtractor the {@link MetadataExtractor} to use
+	 * @param metadataMimeType the {@link MimeType} of the metadata
+	 * @return the extracted metadata
+	 * @since 6.2
+	 */
+	default Map<String, Object> extractMetadata(MetadataExtractor metadataExtractor, MimeType metadataMimeType) {
+		return metadataExtractor.extract(getPayload(), metadataMimeType);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2022 the original author or authors.
+ * Copyright 2019-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
 import org.springframework.security.rsocket.api.PayloadExchange;
+import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -56,12 +57,36 @@ public class AuthenticationPayloadExchangeConverter implements PayloadExchangeAu
 	private static final MimeType AUTHENTICATION_MIME_TYPE = MimeTypeUtils
 		.parseMimeType(WellKnownMimeType.MESSAGE_RSOCKET_AUTHENTICATION.getString());
 
-	private final MetadataExtractor metadataExtractor = createDefaultExtractor();
+	private final MetadataExtractor metadataExtractor;
+
+	/**
+	 * Creates a new instance which extracts the authentication metadata with its own
+	 * {@link MetadataExtractor}.
+	 */
+	public AuthenticationPayloadExchangeConverter() {
+		this(createDefaultExtractor());
+	}
+
+	/**
+	 * Creates a new instance which extracts the authentication metadata with the given
+	 * {@link MetadataExtractor}. Sharing a {@link MetadataExtractor} with the route
+	 * matchers lets them reuse the metadata decoded for a payload. The
+	 * {@link MetadataExtractor} must extract the authentication metadata as
+	 * {@code byte[]} under the {@code "authentication"} key. It should not be the one
+	 * used by the {@code RSocketMessageHandler}, since that would expose the credentials
+	 * to message handling methods.
+	 * @param metadataExtractor the {@link MetadataExtractor} to use
+	 * @since 6.2
+	 */
+	public AuthenticationPayloadExchangeConverter(MetadataExtractor metadataExtractor) {
+		Assert.notNull(metadataExtractor, "metadataExtractor cannot be null");
+		this.metadataExtractor = metadataExtractor;
+	}
 
 	@Override
 	public Mono<Authentication> convert(PayloadExchange exchange) {
 		return Mono
-			.fromCallable(() -> this.metadataExtractor.extract(exchange.getPayload(),
+			.fromCallable(() -> exchange.extractMetadata(this.metadataExtractor,
 					AuthenticationPayloadExchangeConverter.COMPOSITE_METADATA_MIME_TYPE))
 			.flatMap((metadata) -> Mono.justOrEmpty(authentication(metadata)));
 	}
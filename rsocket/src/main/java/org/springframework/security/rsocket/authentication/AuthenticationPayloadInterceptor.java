@@ -16,29 +16,54 @@
 
 package org.springframework.security.rsocket.authentication;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import org.springframework.core.Ordered;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.core.OAuth2Token;
 import org.springframework.security.rsocket.api.PayloadExchange;
+import org.springframework.security.rsocket.api.PayloadExchangeType;
 import org.springframework.security.rsocket.api.PayloadInterceptor;
 import org.springframework.security.rsocket.api.PayloadInterceptorChain;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Uses the provided {@code ReactiveAuthenticationManager} to authenticate a Payload. If
  * authentication is successful, then the result is added to
  * {@link ReactiveSecurityContextHolder}.
  *
+ * <p>
+ * By default every payload carrying credentials is authenticated again. If a
+ * {@link #setConnectionAuthenticationTimeToLive(Duration) time to live} is configured,
+ * the result of authenticating a payload is remembered for the connection it was
+ * received on, and later payloads of that connection presenting the same credentials
+ * reuse it instead of invoking the {@link ReactiveAuthenticationManager}. A remembered
+ * result is discarded once the time to live has passed or, if the credentials of the
+ * result are an {@code OAuth2Token}, once the token has expired.
+ *
  * @author Rob Winch
  * @since 5.2
  */
 public class AuthenticationPayloadInterceptor implements PayloadInterceptor, Ordered {
 
+	private static final boolean oauth2TokenPresent = ClassUtils.isPresent(
+			"org.springframework.security.oauth2.core.OAuth2Token",
+			AuthenticationPayloadInterceptor.class.getClassLoader());
+
 	private final ReactiveAuthenticationManager authenticationManager;
 
+	private Duration connectionAuthenticationTimeToLive = Duration.ZERO;
+
+	private Clock clock = Clock.systemUTC();
+
 	private int order;
 
 	private PayloadExchangeAuthenticationConverter authenticationConverter = new BasicAuthenticationPayloadExchangeConverter();
@@ -70,16 +95,116 @@ public class AuthenticationPayloadInterceptor implements PayloadInterceptor, Ord
 		this.authenticationConverter = authenticationConverter;
 	}
 
+	/**
+	 * Sets how long the result of authenticating a payload may be reused by later
+	 * payloads of the same connection presenting the same credentials. The connection is
+	 * established by the {@link PayloadExchangeType#SETUP} payload, so this only takes
+	 * effect for interceptors which also intercept the setup. The default is
+	 * {@link Duration#ZERO}, which authenticates every payload.
+	 * @param connectionAuthenticationTimeToLive the time to live to use
+	 * @since 6.2
+	 */
+	public void setConnectionAuthenticationTimeToLive(Duration connectionAuthenticationTimeToLive) {
+		Assert.notNull(connectionAuthenticationTimeToLive, "connectionAuthenticationTimeToLive cannot be null");
+		Assert.isTrue(!connectionAuthenticationTimeToLive.isNegative(),
+				"connectionAuthenticationTimeToLive cannot be negative");
+		this.connectionAuthenticationTimeToLive = connectionAuthenticationTimeToLive;
+	}
+
+	/**
+	 * Sets the {@link Clock} used to expire authentication results remembered for a
+	 * connection. The default is {@link Clock#systemUTC()}.
+	 * @param clock the {@link Clock} to use
+	 * @since 6.2
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
 	@Override
 	public Mono<Void> intercept(PayloadExchange exchange, PayloadInterceptorChain chain) {
+		if (this.connectionAuthenticationTimeToLive.isZero()) {
+			return intercept(exchange, chain, null);
+		}
+		if (exchange.getType() == PayloadExchangeType.SETUP) {
+			ConnectionAuthentication connection = new ConnectionAuthentication();
+			return intercept(exchange, chain, connection)
+				.contextWrite(Context.of(this, connection));
+		}
+		// keyed by this instance, so that interceptors never share their results
+		return Mono.deferContextual((context) -> intercept(exchange, chain, context.getOrDefault(this, null)));
+	}
+
+	private Mono<Void> intercept(PayloadExchange exchange, PayloadInterceptorChain chain,
+			ConnectionAuthentication connection) {
 		return this.authenticationConverter.convert(exchange)
 			.switchIfEmpty(chain.next(exchange).then(Mono.empty()))
-			.flatMap((a) -> this.authenticationManager.authenticate(a))
+			.flatMap((a) -> authenticate(a, connection))
 			.flatMap((a) -> onAuthenticationSuccess(chain.next(exchange), a));
 	}
 
+	private Mono<Authentication> authenticate(Authentication authentication, ConnectionAuthentication connection) {
+		if (connection == null) {
+			return this.authenticationManager.authenticate(authentication);
+		}
+		Instant now = this.clock.instant();
+		Authentication authenticated = connection.get(authentication, now);
+		if (authenticated != null) {
+			return Mono.just(authenticated);
+		}
+		return this.authenticationManager.authenticate(authentication)
+			.doOnNext((result) -> connection.set(authentication, result, expiresAt(result, now)));
+	}
+
+	private Instant expiresAt(Authentication authentication, Instant now) {
+		Instant expiresAt = now.plus(this.connectionAuthenticationTimeToLive);
+		if (oauth2TokenPresent) {
+			Instant tokenExpiresAt = OAuth2TokenExpiry.getExpiresAt(authentication);
+			if (tokenExpiresAt != null && tokenExpiresAt.isBefore(expiresAt)) {
+				return tokenExpiresAt;
+			}
+		}
+		return expiresAt;
+	}
+
 	private Mono<Void> onAuthenticationSuccess(Mono<Void> payload, Authentication authentication) {
 		return payload.contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
 	}
 
+	/**
+	 * The authentication result remembered for a connection.
+	 */
+	private static final class ConnectionAuthentication {
+
+		private volatile Entry entry;
+
+		private Authentication get(Authentication authentication, Instant now) {
+			Entry entry = this.entry;
+			if (entry == null || !entry.presented().equals(authentication) || !now.isBefore(entry.expiresAt())) {
+				return null;
+			}
+			return entry.authenticated();
+		}
+
+		private void set(Authentication presented, Authentication authenticated, Instant expiresAt) {
+			this.entry = new Entry(presented, authenticated, expiresAt);
+		}
+
+		private record Entry(Authentication presented, Authentication authenticated, Instant expiresAt) {
+		}
+
+	}
+
+	private static final class OAuth2TokenExpiry {
+
+		private static Instant getExpiresAt(Authentication authentication) {
+			if (authentication.getCredentials() instanceof OAuth2Token token) {
+				return token.getExpiresAt();
+			}
+			return null;
+		}
+
+	}
+
 }
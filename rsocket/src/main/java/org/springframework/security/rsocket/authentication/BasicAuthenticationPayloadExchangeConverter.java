@@ -1,5 +1,5 @@
 /*
- * Copyright 2019-2022 the original author or authors.
+ * Copyright 2019-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,6 +26,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.rsocket.api.PayloadExchange;
 import org.springframework.security.rsocket.metadata.BasicAuthenticationDecoder;
 import org.springframework.security.rsocket.metadata.UsernamePasswordMetadata;
+import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 
@@ -42,11 +43,35 @@ public class BasicAuthenticationPayloadExchangeConverter implements PayloadExcha
 	private MimeType metadataMimetype = MimeTypeUtils
 		.parseMimeType(WellKnownMimeType.MESSAGE_RSOCKET_COMPOSITE_METADATA.getString());
 
-	private MetadataExtractor metadataExtractor = createDefaultExtractor();
+	private final MetadataExtractor metadataExtractor;
+
+	/**
+	 * Creates a new instance which extracts the credentials with its own
+	 * {@link MetadataExtractor}.
+	 */
+	public BasicAuthenticationPayloadExchangeConverter() {
+		this(createDefaultExtractor());
+	}
+
+	/**
+	 * Creates a new instance which extracts the credentials with the given
+	 * {@link MetadataExtractor}. Sharing a {@link MetadataExtractor} with the route
+	 * matchers lets them reuse the metadata decoded for a payload. The
+	 * {@link MetadataExtractor} must extract the credentials as
+	 * {@link UsernamePasswordMetadata}. It should not be the one used by the
+	 * {@code RSocketMessageHandler}, since that would expose the credentials to message
+	 * handling methods.
+	 * @param metadataExtractor the {@link MetadataExtractor} to use
+	 * @since 6.2
+	 */
+	public BasicAuthenticationPayloadExchangeConverter(MetadataExtractor metadataExtractor) {
+		Assert.notNull(metadataExtractor, "metadataExtractor cannot be null");
+		this.metadataExtractor = metadataExtractor;
+	}
 
 	@Override
 	public Mono<Authentication> convert(PayloadExchange exchange) {
-		return Mono.fromCallable(() -> this.metadataExtractor.extract(exchange.getPayload(), this.metadataMimetype))
+		return Mono.fromCallable(() -> exchange.extractMetadata(this.metadataExtractor, this.metadataMimetype))
 			.flatMap((metadata) -> Mono
 				.justOrEmpty(metadata.get(UsernamePasswordMetadata.BASIC_AUTHENTICATION_MIME_TYPE.toString())))
 			.cast(UsernamePasswordMetadata.class)
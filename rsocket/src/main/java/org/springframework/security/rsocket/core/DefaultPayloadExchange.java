@@ -16,15 +16,21 @@
 
 package org.springframework.security.rsocket.core;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import io.rsocket.Payload;
 
+import org.springframework.messaging.rsocket.MetadataExtractor;
 import org.springframework.security.rsocket.api.PayloadExchange;
 import org.springframework.security.rsocket.api.PayloadExchangeType;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeType;
 
 /**
- * Default implementation of {@link PayloadExchange}
+ * Default implementation of {@link PayloadExchange}. The metadata extracted by
+ * {@link #extractMetadata(MetadataExtractor, MimeType)} is remembered, so that matchers
+ * and converters sharing a {@link MetadataExtractor} decode the metadata only once.
  *
  * @author Rob Winch
  * @since 5.2
@@ -39,6 +45,8 @@ public class DefaultPayloadExchange implements PayloadExchange {
 
 	private final MimeType dataMimeType;
 
+	private final Map<ExtractedMetadataKey, Map<String, Object>> extractedMetadata = new ConcurrentHashMap<>();
+
 	public DefaultPayloadExchange(PayloadExchangeType type, Payload payload, MimeType metadataMimeType,
 			MimeType dataMimeType) {
 		Assert.notNull(type, "type cannot be null");
@@ -71,4 +79,13 @@ public class DefaultPayloadExchange implements PayloadExchange {
 		return this.dataMimeType;
 	}
 
+	@Override
+	public Map<String, Object> extractMetadata(MetadataExtractor metadataExtractor, MimeType metadataMimeType) {
+		return this.extractedMetadata.computeIfAbsent(new ExtractedMetadataKey(metadataExtractor, metadataMimeType),
+				(key) -> metadataExtractor.extract(this.payload, metadataMimeType));
+	}
+
+	private record ExtractedMetadataKey(MetadataExtractor metadataExtractor, MimeType metadataMimeType) {
+	}
+
 }
@@ -49,7 +49,7 @@ public class RoutePayloadExchangeMatcher implements PayloadExchangeMatcher {
 
 	@Override
 	public Mono<MatchResult> matches(PayloadExchange exchange) {
-		Map<String, Object> metadata = this.metadataExtractor.extract(exchange.getPayload(),
+		Map<String, Object> metadata = exchange.extractMetadata(this.metadataExtractor,
 				exchange.getMetadataMimeType());
 		return Optional.ofNullable((String) metadata.get(MetadataExtractor.ROUTE_KEY))
 			.map(this.routeMatcher::parseRoute)
@@ -16,7 +16,12 @@
 
 package org.springframework.security.rsocket.authentication;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.CompositeByteBuf;
@@ -33,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.test.publisher.PublisherProbe;
+import reactor.util.context.Context;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -57,6 +63,7 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -108,6 +115,66 @@ public class AuthenticationPayloadInterceptorTests {
 			.verifyComplete();
 	}
 
+	@Test
+	public void interceptWhenConnectionAuthenticationTimeToLiveThenAuthenticatesOncePerConnection() {
+		AuthenticationPayloadInterceptor interceptor = new AuthenticationPayloadInterceptor(this.authenticationManager);
+		interceptor.setConnectionAuthenticationTimeToLive(Duration.ofMinutes(1));
+		TestingAuthenticationToken expectedAuthentication = new TestingAuthenticationToken("user", "password");
+		given(this.authenticationManager.authenticate(any())).willReturn(Mono.just(expectedAuthentication));
+		Context connection = interceptSetup(interceptor);
+		AuthenticationPayloadInterceptorChain chain = new AuthenticationPayloadInterceptorChain();
+		interceptor.intercept(createExchange(), chain).contextWrite(connection).block();
+		interceptor.intercept(createExchange(), chain).contextWrite(connection).block();
+		assertThat(chain.getAuthentication()).isEqualTo(expectedAuthentication);
+		verify(this.authenticationManager).authenticate(any());
+	}
+
+	@Test
+	public void interceptWhenConnectionAuthenticationExpiredThenAuthenticatesAgain() {
+		Instant now = Instant.now();
+		AuthenticationPayloadInterceptor interceptor = new AuthenticationPayloadInterceptor(this.authenticationManager);
+		interceptor.setConnectionAuthenticationTimeToLive(Duration.ofMinutes(1));
+		interceptor.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		TestingAuthenticationToken expectedAuthentication = new TestingAuthenticationToken("user", "password");
+		given(this.authenticationManager.authenticate(any())).willReturn(Mono.just(expectedAuthentication));
+		Context connection = interceptSetup(interceptor);
+		interceptor.setClock(Clock.fixed(now.plus(Duration.ofMinutes(2)), ZoneOffset.UTC));
+		interceptor.intercept(createExchange(), new AuthenticationPayloadInterceptorChain())
+			.contextWrite(connection)
+			.block();
+		verify(this.authenticationManager, times(2)).authenticate(any());
+	}
+
+	@Test
+	public void interceptWhenNoConnectionAuthenticationTimeToLiveThenAuthenticatesEveryPayload() {
+		AuthenticationPayloadInterceptor interceptor = new AuthenticationPayloadInterceptor(this.authenticationManager);
+		TestingAuthenticationToken expectedAuthentication = new TestingAuthenticationToken("user", "password");
+		given(this.authenticationManager.authenticate(any())).willReturn(Mono.just(expectedAuthentication));
+		Context connection = interceptSetup(interceptor);
+		interceptor.intercept(createExchange(), new AuthenticationPayloadInterceptorChain())
+			.contextWrite(connection)
+			.block();
+		verify(this.authenticationManager, times(2)).authenticate(any());
+	}
+
+	@Test
+	public void setConnectionAuthenticationTimeToLiveWhenNegativeThenException() {
+		AuthenticationPayloadInterceptor interceptor = new AuthenticationPayloadInterceptor(this.authenticationManager);
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> interceptor.setConnectionAuthenticationTimeToLive(Duration.ofSeconds(-1)));
+	}
+
+	private Context interceptSetup(AuthenticationPayloadInterceptor interceptor) {
+		AtomicReference<Context> connection = new AtomicReference<>();
+		PayloadInterceptorChain chain = (exchange) -> Mono.deferContextual(Mono::just)
+			.doOnNext((context) -> connection.set(Context.of(context)))
+			.then();
+		PayloadExchange setup = new DefaultPayloadExchange(PayloadExchangeType.SETUP, createRequestPayload(),
+				COMPOSITE_METADATA, MediaType.APPLICATION_JSON);
+		interceptor.intercept(setup, chain).block();
+		return connection.get();
+	}
+
 	private Payload createRequestPayload() {
 		UsernamePasswordMetadata credentials = new UsernamePasswordMetadata("user", "password");
 		BasicAuthenticationEncoder encoder = new BasicAuthenticationEncoder();
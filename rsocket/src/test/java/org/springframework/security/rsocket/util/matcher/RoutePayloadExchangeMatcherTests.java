@@ -31,6 +31,7 @@ import org.springframework.http.MediaType;
 import org.springframework.messaging.rsocket.MetadataExtractor;
 import org.springframework.security.rsocket.api.PayloadExchange;
 import org.springframework.security.rsocket.api.PayloadExchangeType;
+import org.springframework.security.rsocket.authentication.AuthenticationPayloadExchangeConverter;
 import org.springframework.security.rsocket.core.DefaultPayloadExchange;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
@@ -39,6 +40,7 @@ import org.springframework.util.RouteMatcher;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Rob Winch
@@ -115,4 +117,26 @@ public class RoutePayloadExchangeMatcherTests {
 		assertThat(result.getVariables()).containsAllEntriesOf(variables);
 	}
 
+	@Test
+	public void matchesWhenSeveralMatchersThenMetadataExtractedOnce() {
+		given(this.metadataExtractor.extract(any(), any()))
+			.willReturn(Collections.singletonMap(MetadataExtractor.ROUTE_KEY, "route"));
+		RoutePayloadExchangeMatcher other = new RoutePayloadExchangeMatcher(this.metadataExtractor, this.routeMatcher,
+				"c.d");
+		assertThat(this.matcher.matches(this.exchange).block().isMatch()).isFalse();
+		assertThat(other.matches(this.exchange).block().isMatch()).isFalse();
+		verify(this.metadataExtractor).extract(this.payload, COMPOSITE_METADATA);
+	}
+
+	@Test
+	public void matchesWhenConverterSharesExtractorThenMetadataExtractedOnce() {
+		given(this.metadataExtractor.extract(any(), any()))
+			.willReturn(Collections.singletonMap(MetadataExtractor.ROUTE_KEY, "route"));
+		AuthenticationPayloadExchangeConverter converter = new AuthenticationPayloadExchangeConverter(
+				this.metadataExtractor);
+		assertThat(converter.convert(this.exchange).block()).isNull();
+		assertThat(this.matcher.matches(this.exchange).block().isMatch()).isFalse();
+		verify(this.metadataExtractor).extract(this.payload, COMPOSITE_METADATA);
+	}
+
 }
@@ -39,12 +39,22 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.log.LogMessage;
+import org.springframework.security.web.FilterChainProxy.VirtualFilterChainDecorator;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
  * A {@link org.springframework.security.web.FilterChainProxy.FilterChainDecorator} that
  * wraps the chain in before and after observations
  *
+ * <p>
+ * The amount of detail that is observed can be reduced using
+ * {@link #setGranularity(Granularity)}, and observations can be limited to a subset of
+ * requests using {@link #setObservationRequestMatcher(RequestMatcher)}. When the
+ * {@link ObservationRegistry} is a no-op, the chain is not wrapped at all.
+ *
  * @author Josh Cummings
  * @since 6.0
  */
@@ -54,37 +64,89 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 
 	private static final String ATTRIBUTE = ObservationFilterChainDecorator.class + ".observation";
 
+	private static final String OBSERVED_ATTRIBUTE = ObservationFilterChainDecorator.class + ".observed";
+
+	private static final VirtualFilterChainDecorator UNOBSERVED = new VirtualFilterChainDecorator();
+
 	static final String UNSECURED_OBSERVATION_NAME = "spring.security.http.unsecured.requests";
 
 	static final String SECURED_OBSERVATION_NAME = "spring.security.http.secured.requests";
 
 	private final ObservationRegistry registry;
 
+	private Granularity granularity = Granularity.FILTERS;
+
+	private RequestMatcher observationRequestMatcher = AnyRequestMatcher.INSTANCE;
+
 	public ObservationFilterChainDecorator(ObservationRegistry registry) {
 		this.registry = registry;
 	}
 
 	@Override
 	public FilterChain decorate(FilterChain original) {
+		if (this.registry.isNoop()) {
+			return original;
+		}
 		return wrapUnsecured(original);
 	}
 
 	@Override
 	public FilterChain decorate(FilterChain original, List<Filter> filters) {
+		if (this.registry.isNoop()) {
+			return UNOBSERVED.decorate(original, filters);
+		}
+		if (this.granularity == Granularity.CHAIN) {
+			return UNOBSERVED.decorate(wrapSecured(original), filters);
+		}
 		return new VirtualFilterChain(wrapSecured(original), wrap(filters));
 	}
 
+	/**
+	 * Sets the level of detail to observe. Defaults to {@link Granularity#FILTERS}.
+	 * @param granularity the {@link Granularity} to use
+	 * @since 6.2
+	 */
+	public void setGranularity(Granularity granularity) {
+		Assert.notNull(granularity, "granularity cannot be null");
+		this.granularity = granularity;
+	}
+
+	/**
+	 * Sets the {@link RequestMatcher} deciding which requests are observed. The decision
+	 * is made once per request and applies to all observations of that request. Defaults
+	 * to observing every request.
+	 * @param observationRequestMatcher the {@link RequestMatcher} to use
+	 * @since 6.2
+	 */
+	public void setObservationRequestMatcher(RequestMatcher observationRequestMatcher) {
+		Assert.notNull(observationRequestMatcher, "observationRequestMatcher cannot be null");
+		this.observationRequestMatcher = observationRequestMatcher;
+	}
+
 	private FilterChain wrapSecured(FilterChain original) {
 		return (req, res) -> {
-			AroundFilterObservation parent = observation((HttpServletRequest) req);
+			HttpServletRequest request = (HttpServletRequest) req;
+			if (!isObserved(request, this.observationRequestMatcher)) {
+				original.doFilter(req, res);
+				return;
+			}
 			Observation observation = Observation.createNotStarted(SECURED_OBSERVATION_NAME, this.registry)
 				.contextualName("secured request");
-			parent.wrap(FilterObservation.create(observation).wrap(original)).doFilter(req, res);
+			FilterChain chain = FilterObservation.create(observation).wrap(original);
+			AroundFilterObservation parent = observation(request);
+			if (parent != null) {
+				chain = parent.wrap(chain);
+			}
+			chain.doFilter(req, res);
 		};
 	}
 
 	private FilterChain wrapUnsecured(FilterChain original) {
 		return (req, res) -> {
+			if (!isObserved((HttpServletRequest) req, this.observationRequestMatcher)) {
+				original.doFilter(req, res);
+				return;
+			}
 			Observation observation = Observation.createNotStarted(UNSECURED_OBSERVATION_NAME, this.registry)
 				.contextualName("unsecured request");
 			FilterObservation.create(observation).wrap(original).doFilter(req, res);
@@ -93,10 +155,12 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 
 	private List<ObservationFilter> wrap(List<Filter> filters) {
 		int size = filters.size();
-		List<ObservationFilter> observableFilters = new ArrayList<>();
+		boolean recordFilters = this.granularity == Granularity.FILTERS;
+		List<ObservationFilter> observableFilters = new ArrayList<>(size);
 		int position = 1;
 		for (Filter filter : filters) {
-			observableFilters.add(new ObservationFilter(this.registry, filter, position, size));
+			observableFilters.add(new ObservationFilter(this.registry, filter, position, size, recordFilters,
+					this.observationRequestMatcher));
 			position++;
 		}
 		return observableFilters;
@@ -106,6 +170,43 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 		return (AroundFilterObservation) request.getAttribute(ATTRIBUTE);
 	}
 
+	static boolean isObserved(HttpServletRequest request, RequestMatcher observationRequestMatcher) {
+		if (observationRequestMatcher == AnyRequestMatcher.INSTANCE) {
+			return true;
+		}
+		Boolean observed = (Boolean) request.getAttribute(OBSERVED_ATTRIBUTE);
+		if (observed == null) {
+			observed = observationRequestMatcher.matches(request);
+			request.setAttribute(OBSERVED_ATTRIBUTE, observed);
+		}
+		return observed;
+	}
+
+	/**
+	 * The level of detail observed by an {@link ObservationFilterChainDecorator}.
+	 *
+	 * @since 6.2
+	 */
+	public enum Granularity {
+
+		/**
+		 * Only observe secured and unsecured requests as a whole
+		 */
+		CHAIN,
+
+		/**
+		 * Additionally observe the sections of the security filter chain before and after
+		 * the secured request
+		 */
+		SECTIONS,
+
+		/**
+		 * Additionally record the filters reached in each section as events
+		 */
+		FILTERS
+
+	}
+
 	private static final class VirtualFilterChain implements FilterChain {
 
 		private final FilterChain originalChain;
@@ -198,13 +299,20 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 
 		private final int size;
 
-		ObservationFilter(ObservationRegistry registry, Filter filter, int position, int size) {
+		private final boolean recordFilters;
+
+		private final RequestMatcher observationRequestMatcher;
+
+		ObservationFilter(ObservationRegistry registry, Filter filter, int position, int size, boolean recordFilters,
+				RequestMatcher observationRequestMatcher) {
 			this.registry = registry;
 			this.filter = filter;
 			this.name = filter.getClass().getSimpleName();
 			this.position = position;
 			this.size = size;
 			this.eventName = eventName(this.name);
+			this.recordFilters = recordFilters;
+			this.observationRequestMatcher = observationRequestMatcher;
 		}
 
 		private String eventName(String className) {
@@ -220,7 +328,13 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 		public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
 				throws IOException, ServletException {
 			if (this.position == 1) {
-				AroundFilterObservation parent = parent((HttpServletRequest) request);
+				HttpServletRequest httpRequest = (HttpServletRequest) request;
+				if (!isObserved(httpRequest, this.observationRequestMatcher)) {
+					httpRequest.setAttribute(ATTRIBUTE, AroundFilterObservation.NOOP);
+					this.filter.doFilter(request, response, chain);
+					return;
+				}
+				AroundFilterObservation parent = parent(httpRequest);
 				parent.wrap(this::wrapFilter).doFilter(request, response, chain);
 			}
 			else {
@@ -231,25 +345,35 @@ public final class ObservationFilterChainDecorator implements FilterChainProxy.F
 		private void wrapFilter(ServletRequest request, ServletResponse response, FilterChain chain)
 				throws IOException, ServletException {
 			AroundFilterObservation parent = observation((HttpServletRequest) request);
-			if (parent.before().getContext() instanceof FilterChainObservationContext parentBefore) {
-				parentBefore.setChainSize(this.size);
-				parentBefore.setFilterName(this.name);
-				parentBefore.setChainPosition(this.position);
+			if (parent == AroundFilterObservation.NOOP) {
+				this.filter.doFilter(request, response, chain);
+				return;
+			}
+			if (this.recordFilters) {
+				if (parent.before().getContext() instanceof FilterChainObservationContext parentBefore) {
+					parentBefore.setChainSize(this.size);
+					parentBefore.setFilterName(this.name);
+					parentBefore.setChainPosition(this.position);
+				}
+				parent.before().event(Observation.Event.of(this.eventName + ".before", "before " + this.name));
 			}
-			parent.before().event(Observation.Event.of(this.eventName + ".before", "before " + this.name));
 			this.filter.doFilter(request, response, chain);
 			parent.start();
-			if (parent.after().getContext() instanceof FilterChainObservationContext parentAfter) {
-				parentAfter.setChainSize(this.size);
-				parentAfter.setFilterName(this.name);
-				parentAfter.setChainPosition(this.size - this.position + 1);
+			if (this.recordFilters) {
+				if (parent.after().getContext() instanceof FilterChainObservationContext parentAfter) {
+					parentAfter.setChainSize(this.size);
+					parentAfter.setFilterName(this.name);
+					parentAfter.setChainPosition(this.size - this.position + 1);
+				}
+				parent.after().event(Observation.Event.of(this.eventName + ".after", "after " + this.name));
 			}
-			parent.after().event(Observation.Event.of(this.eventName + ".after", "after " + this.name));
 		}
 
 		private AroundFilterObservation parent(HttpServletRequest request) {
 			FilterChainObservationContext beforeContext = FilterChainObservationContext.before();
 			FilterChainObservationContext afterContext = FilterChainObservationContext.after();
+			beforeContext.setChainSize(this.size);
+			afterContext.setChainSize(this.size);
 			Observation before = Observation.createNotStarted(this.convention, () -> beforeContext, this.registry);
 			Observation after = Observation.createNotStarted(this.convention, () -> afterContext, this.registry);
 			AroundFilterObservation parent = AroundFilterObservation.create(before, after);
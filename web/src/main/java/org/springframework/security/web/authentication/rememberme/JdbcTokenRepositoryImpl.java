@@ -25,6 +25,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.core.support.JdbcDaoSupport;
+import org.springframework.util.Assert;
 
 /**
  * JDBC based persistent login token repository implementation.
@@ -50,6 +51,9 @@ public class JdbcTokenRepositoryImpl extends JdbcDaoSupport implements Persisten
 	/** The default SQL used by <tt>removeUserTokens</tt> */
 	public static final String DEF_REMOVE_USER_TOKENS_SQL = "delete from persistent_logins where username = ?";
 
+	/** The default SQL used by <tt>removeTokensLastUsedBefore</tt> */
+	public static final String DEF_REMOVE_TOKENS_LAST_USED_BEFORE_SQL = "delete from persistent_logins where last_used < ?";
+
 	private String tokensBySeriesSql = DEF_TOKEN_BY_SERIES_SQL;
 
 	private String insertTokenSql = DEF_INSERT_TOKEN_SQL;
@@ -58,6 +62,8 @@ public class JdbcTokenRepositoryImpl extends JdbcDaoSupport implements Persisten
 
 	private String removeUserTokensSql = DEF_REMOVE_USER_TOKENS_SQL;
 
+	private String removeTokensLastUsedBeforeSql = DEF_REMOVE_TOKENS_LAST_USED_BEFORE_SQL;
+
 	private boolean createTableOnStartup;
 
 	@Override
@@ -115,6 +121,24 @@ public class JdbcTokenRepositoryImpl extends JdbcDaoSupport implements Persisten
 		getJdbcTemplate().update(this.removeUserTokensSql, username);
 	}
 
+	/**
+	 * Removes all tokens which have not been used since the supplied date, using a
+	 * single statement. Intended to be invoked periodically, for example from a
+	 * scheduled task, to purge tokens which can no longer be used for an automatic
+	 * login, typically passing the current time minus the <tt>tokenValiditySeconds</tt>
+	 * of the {@link PersistentTokenBasedRememberMeServices}.
+	 * @param lastUsed the date before which tokens are considered stale
+	 * @return the number of tokens removed
+	 * @since 6.2
+	 */
+	public int removeTokensLastUsedBefore(Date lastUsed) {
+		Assert.notNull(lastUsed, "lastUsed cannot be null");
+		int removed = getJdbcTemplate().update(this.removeTokensLastUsedBeforeSql, lastUsed);
+		this.logger.debug(
+				LogMessage.format("Removed %d persistent login tokens last used before %s", removed, lastUsed));
+		return removed;
+	}
+
 	/**
 	 * Intended for convenience in debugging. Will create the persistent_tokens database
 	 * table when the class is initialized during the initDao method.
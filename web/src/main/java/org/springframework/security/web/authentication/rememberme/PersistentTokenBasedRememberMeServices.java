@@ -17,6 +17,7 @@
 package org.springframework.security.web.authentication.rememberme;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
@@ -52,7 +53,13 @@ import org.springframework.util.Assert;
  * presented cookie is older than the configured <tt>tokenValiditySeconds</tt> property
  * and deny authentication in this case, it will not delete these tokens from storage. A
  * suitable batch process should be run periodically to remove expired tokens from the
- * database.
+ * database (see {@link JdbcTokenRepositoryImpl#removeTokensLastUsedBefore(Date)}).
+ * </p>
+ *
+ * <p>
+ * By default the token is rotated on every automatic login. Use
+ * {@link #setTokenRotationInterval(Duration)} to reduce the number of writes to the
+ * token repository.
  * </p>
  *
  * @author Luke Taylor
@@ -72,6 +79,8 @@ public class PersistentTokenBasedRememberMeServices extends AbstractRememberMeSe
 
 	private int tokenLength = DEFAULT_TOKEN_LENGTH;
 
+	private Duration tokenRotationInterval = Duration.ZERO;
+
 	public PersistentTokenBasedRememberMeServices(String key, UserDetailsService userDetailsService,
 			PersistentTokenRepository tokenRepository) {
 		super(key, userDetailsService);
@@ -117,6 +126,11 @@ public class PersistentTokenBasedRememberMeServices extends AbstractRememberMeSe
 		if (token.getDate().getTime() + getTokenValiditySeconds() * 1000L < System.currentTimeMillis()) {
 			throw new RememberMeAuthenticationException("Remember-me login has expired");
 		}
+		if (!isRotationRequired(token)) {
+			this.logger.debug(LogMessage.format("Reusing persistent login token for user '%s', series '%s'",
+					token.getUsername(), token.getSeries()));
+			return getUserDetailsService().loadUserByUsername(token.getUsername());
+		}
 		// Token also matches, so login is valid. Update the token value, keeping the
 		// *same* series number.
 		this.logger.debug(LogMessage.format("Refreshing persistent login token for user '%s', series '%s'",
@@ -175,6 +189,13 @@ public class PersistentTokenBasedRememberMeServices extends AbstractRememberMeSe
 		return new String(Base64.getEncoder().encode(newToken));
 	}
 
+	private boolean isRotationRequired(PersistentRememberMeToken token) {
+		if (this.tokenRotationInterval.isZero()) {
+			return true;
+		}
+		return token.getDate().getTime() + this.tokenRotationInterval.toMillis() <= System.currentTimeMillis();
+	}
+
 	private void addCookie(PersistentRememberMeToken token, HttpServletRequest request, HttpServletResponse response) {
 		setCookie(new String[] { token.getSeries(), token.getTokenValue() }, getTokenValiditySeconds(), request,
 				response);
@@ -188,6 +209,25 @@ public class PersistentTokenBasedRememberMeServices extends AbstractRememberMeSe
 		this.tokenLength = tokenLength;
 	}
 
+	/**
+	 * Sets the minimum amount of time between two rotations of the token belonging to a
+	 * series. A presented token that was last rotated less than this interval ago is
+	 * accepted as is, without writing a new value to the {@link PersistentTokenRepository}
+	 * or sending a new cookie. This avoids an update of the token store for every
+	 * request made by an automatically logged in user, at the cost of allowing a stolen
+	 * cookie to be replayed within the interval without being detected. Since the
+	 * validity of a token is measured from its last rotation, the interval should be
+	 * considerably shorter than the <tt>tokenValiditySeconds</tt>. Defaults to
+	 * {@link Duration#ZERO}, meaning the token is rotated on every use.
+	 * @param tokenRotationInterval the minimum interval between token rotations
+	 * @since 6.2
+	 */
+	public void setTokenRotationInterval(Duration tokenRotationInterval) {
+		Assert.notNull(tokenRotationInterval, "tokenRotationInterval cannot be null");
+		Assert.isTrue(!tokenRotationInterval.isNegative(), "tokenRotationInterval cannot be negative");
+		this.tokenRotationInterval = tokenRotationInterval;
+	}
+
 	@Override
 	public void setTokenValiditySeconds(int tokenValiditySeconds) {
 		Assert.isTrue(tokenValiditySeconds > 0, "tokenValiditySeconds must be positive for this implementation");
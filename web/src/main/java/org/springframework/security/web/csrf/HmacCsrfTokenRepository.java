@@ -0,0 +1,376 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.csrf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * A {@link CsrfTokenRepository} issuing {@link CsrfToken}s which are signed with a
+ * secret key using HMAC-SHA256. Each token consists of a random nonce, an expiration time
+ * and a signature over both and a value binding the token to the client. Since a
+ * presented token can be verified using the key alone, the tokens themselves are neither
+ * stored in the {@link jakarta.servlet.http.HttpSession} nor written to a cookie.
+ *
+ * <p>
+ * By default the token is bound to a random value which is written to an
+ * {@code HttpOnly} cookie named {@code CSRF-BINDING} when the first token is generated
+ * for a client, so tokens work before login as well, for example for the login form.
+ * Removing the token with {@code saveToken(null, request, response)}, as
+ * {@link CsrfAuthenticationStrategy} does on login, removes the cookie so that tokens
+ * issued before are no longer accepted. A different binding, for example the session id,
+ * can be configured using {@link #setTokenBindingResolver(Function)}, in which case no
+ * cookie is written.
+ * </p>
+ *
+ * <p>
+ * Since the token cannot be derived again, the token presented by a request is verified
+ * and returned by {@link #loadToken(HttpServletRequest)}. Both plain tokens, as used by
+ * {@link CsrfTokenRequestAttributeHandler}, and the masked tokens of
+ * {@link XorCsrfTokenRequestAttributeHandler} are accepted.
+ * </p>
+ *
+ * <p>
+ * Keys can be rotated by supplying more than one key. The first key is used to sign new
+ * tokens, while the remaining keys are only used to accept tokens issued before the
+ * rotation.
+ * </p>
+ *
+ * @since 6.2
+ */
+public final class HmacCsrfTokenRepository implements CsrfTokenRepository {
+
+	private static final String DEFAULT_CSRF_PARAMETER_NAME = "_csrf";
+
+	private static final String DEFAULT_CSRF_HEADER_NAME = "X-CSRF-TOKEN";
+
+	private static final String DEFAULT_BINDING_COOKIE_NAME = "CSRF-BINDING";
+
+	private static final String BINDING_ATTRIBUTE_NAME = HmacCsrfTokenRepository.class.getName().concat(".BINDING");
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private static final int BINDING_LENGTH = 32;
+
+	private static final int NONCE_LENGTH = 16;
+
+	private static final int SIGNATURE_LENGTH = 32;
+
+	private static final int TOKEN_LENGTH = NONCE_LENGTH + Long.BYTES + SIGNATURE_LENGTH;
+
+	private final List<SecretKey> keys;
+
+	private String parameterName = DEFAULT_CSRF_PARAMETER_NAME;
+
+	private String headerName = DEFAULT_CSRF_HEADER_NAME;
+
+	private String bindingCookieName = DEFAULT_BINDING_COOKIE_NAME;
+
+	private Consumer<ResponseCookie.ResponseCookieBuilder> cookieCustomizer = (builder) -> {
+	};
+
+	private Function<HttpServletRequest, String> tokenBindingResolver;
+
+	private SecureRandom secureRandom = new SecureRandom();
+
+	private Duration tokenValidity = Duration.ofHours(1);
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Creates a new instance signing tokens with the given key.
+	 * @param key the key used to sign tokens
+	 */
+	public HmacCsrfTokenRepository(SecretKey key) {
+		this(List.of(key));
+	}
+
+	/**
+	 * Creates a new instance signing tokens with the first of the given keys, while still
+	 * accepting tokens signed with any of the other keys.
+	 * @param keys the keys to use, the current key first
+	 */
+	public HmacCsrfTokenRepository(List<SecretKey> keys) {
+		Assert.notEmpty(keys, "keys cannot be empty");
+		Assert.noNullElements(keys, "keys cannot contain null elements");
+		this.keys = new ArrayList<>(keys);
+		for (SecretKey key : this.keys) {
+			sign(key, new byte[NONCE_LENGTH + Long.BYTES], "");
+		}
+	}
+
+	/**
+	 * Generates a new token bound to the client. With the default binding, a new binding
+	 * is created if the client has none yet, which is written to a cookie by
+	 * {@link #saveToken(CsrfToken, HttpServletRequest, HttpServletResponse)}. With a
+	 * custom binding, a random value which is never accepted is generated if no binding
+	 * is available.
+	 */
+	@Override
+	public CsrfToken generateToken(HttpServletRequest request) {
+		String binding = getBinding(request);
+		if (binding == null && this.tokenBindingResolver == null) {
+			binding = createBinding();
+			request.setAttribute(BINDING_ATTRIBUTE_NAME, binding);
+		}
+		byte[] token = new byte[TOKEN_LENGTH];
+		this.secureRandom.nextBytes(token);
+		if (binding != null) {
+			long expiresAt = this.clock.instant().plus(this.tokenValidity).getEpochSecond();
+			ByteBuffer.wrap(token, NONCE_LENGTH, Long.BYTES).putLong(expiresAt);
+			byte[] signature = sign(this.keys.get(0), Arrays.copyOf(token, NONCE_LENGTH + Long.BYTES), binding);
+			System.arraycopy(signature, 0, token, NONCE_LENGTH + Long.BYTES, SIGNATURE_LENGTH);
+		}
+		return new DefaultCsrfToken(this.headerName, this.parameterName,
+				Base64.getUrlEncoder().withoutPadding().encodeToString(token));
+	}
+
+	/**
+	 * Writes the binding created by {@link #generateToken(HttpServletRequest)} to a
+	 * cookie, or removes the cookie if the token is {@code null}. Does nothing if a custom
+	 * binding is used, since tokens are verified using the key alone.
+	 */
+	@Override
+	public void saveToken(CsrfToken token, HttpServletRequest request, HttpServletResponse response) {
+		if (this.tokenBindingResolver != null) {
+			return;
+		}
+		if (token == null) {
+			request.setAttribute(BINDING_ATTRIBUTE_NAME, "");
+			addBindingCookie(request, response, "");
+			return;
+		}
+		String binding = (String) request.getAttribute(BINDING_ATTRIBUTE_NAME);
+		Cookie cookie = WebUtils.getCookie(request, this.bindingCookieName);
+		if (StringUtils.hasLength(binding) && (cookie == null || !binding.equals(cookie.getValue()))) {
+			addBindingCookie(request, response, binding);
+		}
+	}
+
+	/**
+	 * Returns the token presented by the request, unmasked if necessary, if it was signed
+	 * with one of the keys for the current binding and has not expired, or {@code null}
+	 * otherwise.
+	 */
+	@Override
+	public CsrfToken loadToken(HttpServletRequest request) {
+		String presentedToken = getPresentedToken(request);
+		if (presentedToken == null) {
+			return null;
+		}
+		String binding = getBinding(request);
+		if (binding == null) {
+			return null;
+		}
+		byte[] token = decode(presentedToken);
+		if (token != null && token.length != TOKEN_LENGTH) {
+			presentedToken = unmask(token);
+			token = (presentedToken != null) ? decode(presentedToken) : null;
+		}
+		if (token == null || token.length != TOKEN_LENGTH) {
+			return null;
+		}
+		long expiresAt = ByteBuffer.wrap(token, NONCE_LENGTH, Long.BYTES).getLong();
+		if (this.clock.instant().getEpochSecond() >= expiresAt) {
+			return null;
+		}
+		byte[] signed = Arrays.copyOf(token, NONCE_LENGTH + Long.BYTES);
+		byte[] signature = Arrays.copyOfRange(token, NONCE_LENGTH + Long.BYTES, TOKEN_LENGTH);
+		for (SecretKey key : this.keys) {
+			if (MessageDigest.isEqual(signature, sign(key, signed, binding))) {
+				return new DefaultCsrfToken(this.headerName, this.parameterName, presentedToken);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Sets the {@link HttpServletRequest} parameter name that the {@link CsrfToken} is
+	 * expected to appear on
+	 * @param parameterName the new parameter name to use
+	 */
+	public void setParameterName(String parameterName) {
+		Assert.hasLength(parameterName, "parameterName cannot be null or empty");
+		this.parameterName = parameterName;
+	}
+
+	/**
+	 * Sets the header name that the {@link CsrfToken} is expected to appear on
+	 * @param headerName the new header name to use
+	 */
+	public void setHeaderName(String headerName) {
+		Assert.hasLength(headerName, "headerName cannot be null or empty");
+		this.headerName = headerName;
+	}
+
+	/**
+	 * Sets the {@link Function} resolving the value a token is bound to, replacing the
+	 * default binding cookie. The value must be available before {@link CsrfFilter}
+	 * runs, including for the login form. The function may return {@code null} if no
+	 * binding is available for a request, in which case no token is accepted.
+	 * @param tokenBindingResolver the resolver to use
+	 */
+	public void setTokenBindingResolver(Function<HttpServletRequest, String> tokenBindingResolver) {
+		Assert.notNull(tokenBindingResolver, "tokenBindingResolver cannot be null");
+		this.tokenBindingResolver = tokenBindingResolver;
+	}
+
+	/**
+	 * Sets how long a generated token is accepted. The default is one hour.
+	 * @param tokenValidity the time a token is accepted for
+	 */
+	public void setTokenValidity(Duration tokenValidity) {
+		Assert.notNull(tokenValidity, "tokenValidity cannot be null");
+		Assert.isTrue(!tokenValidity.isNegative() && !tokenValidity.isZero(), "tokenValidity must be positive");
+		this.tokenValidity = tokenValidity;
+	}
+
+	/**
+	 * Sets the {@link SecureRandom} used to generate the nonce of a token
+	 * @param secureRandom the {@link SecureRandom} to use
+	 */
+	public void setSecureRandom(SecureRandom secureRandom) {
+		Assert.notNull(secureRandom, "secureRandom cannot be null");
+		this.secureRandom = secureRandom;
+	}
+
+	/**
+	 * Sets the {@link Clock} used for the expiration time of tokens
+	 * @param clock the {@link Clock} to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Sets the name of the cookie holding the default token binding. The default is
+	 * {@code CSRF-BINDING}.
+	 * @param bindingCookieName the name of the cookie
+	 */
+	public void setBindingCookieName(String bindingCookieName) {
+		Assert.hasLength(bindingCookieName, "bindingCookieName cannot be null or empty");
+		this.bindingCookieName = bindingCookieName;
+	}
+
+	/**
+	 * Add a {@link Consumer} for a {@code ResponseCookieBuilder} that will be invoked for
+	 * each binding cookie being built, just before the call to {@code build()}.
+	 * @param cookieCustomizer consumer for a cookie builder
+	 */
+	public void setCookieCustomizer(Consumer<ResponseCookie.ResponseCookieBuilder> cookieCustomizer) {
+		Assert.notNull(cookieCustomizer, "cookieCustomizer cannot be null");
+		this.cookieCustomizer = cookieCustomizer;
+	}
+
+	private String getBinding(HttpServletRequest request) {
+		if (this.tokenBindingResolver != null) {
+			return this.tokenBindingResolver.apply(request);
+		}
+		// A binding created or removed during the current request takes precedence
+		String binding = (String) request.getAttribute(BINDING_ATTRIBUTE_NAME);
+		if (binding != null) {
+			return StringUtils.hasLength(binding) ? binding : null;
+		}
+		Cookie cookie = WebUtils.getCookie(request, this.bindingCookieName);
+		return (cookie != null && StringUtils.hasLength(cookie.getValue())) ? cookie.getValue() : null;
+	}
+
+	private String createBinding() {
+		byte[] binding = new byte[BINDING_LENGTH];
+		this.secureRandom.nextBytes(binding);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(binding);
+	}
+
+	private void addBindingCookie(HttpServletRequest request, HttpServletResponse response, String binding) {
+		String contextPath = request.getContextPath();
+		ResponseCookie.ResponseCookieBuilder cookieBuilder = ResponseCookie.from(this.bindingCookieName, binding)
+			.secure(request.isSecure())
+			.path(StringUtils.hasLength(contextPath) ? contextPath : "/")
+			.maxAge(StringUtils.hasLength(binding) ? -1 : 0)
+			.httpOnly(true);
+		this.cookieCustomizer.accept(cookieBuilder);
+		response.addHeader(HttpHeaders.SET_COOKIE, cookieBuilder.build().toString());
+	}
+
+	private String getPresentedToken(HttpServletRequest request) {
+		String token = request.getHeader(this.headerName);
+		return (token != null) ? token : request.getParameter(this.parameterName);
+	}
+
+	/**
+	 * Reverses the masking applied by {@link XorCsrfTokenRequestAttributeHandler}, which
+	 * presents random bytes followed by the token XORed with them.
+	 */
+	private static String unmask(byte[] masked) {
+		if (masked.length == 0 || masked.length % 2 != 0) {
+			return null;
+		}
+		int length = masked.length / 2;
+		byte[] token = new byte[length];
+		for (int i = 0; i < length; i++) {
+			token[i] = (byte) (masked[i] ^ masked[length + i]);
+		}
+		return new String(token, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] decode(String token) {
+		try {
+			return Base64.getUrlDecoder().decode(token);
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	private static byte[] sign(SecretKey key, byte[] signed, String binding) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			mac.update(signed);
+			return mac.doFinal(binding.getBytes(StandardCharsets.UTF_8));
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalArgumentException("Unable to sign CSRF token using the supplied key", ex);
+		}
+	}
+
+}
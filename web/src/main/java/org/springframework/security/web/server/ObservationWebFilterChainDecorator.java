@@ -33,6 +33,9 @@ import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccess
 import reactor.core.publisher.Mono;
 
 import org.springframework.lang.Nullable;
+import org.springframework.security.web.server.WebFilterChainProxy.DefaultWebFilterChainDecorator;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -45,6 +48,12 @@ import org.springframework.web.server.WebHandler;
  * {@link org.springframework.security.web.server.WebFilterChainProxy.WebFilterChainDecorator}
  * that wraps the chain in before and after observations
  *
+ * <p>
+ * The amount of detail that is observed can be reduced using
+ * {@link #setGranularity(Granularity)}, and observations can be limited to a subset of
+ * exchanges using {@link #setObservationMatcher(ServerWebExchangeMatcher)}. When the
+ * {@link ObservationRegistry} is a no-op, the chain is not wrapped at all.
+ *
  * @author Josh Cummings
  * @since 6.0
  */
@@ -52,62 +61,151 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 
 	private static final String ATTRIBUTE = ObservationWebFilterChainDecorator.class + ".observation";
 
+	private static final String OBSERVED_ATTRIBUTE = ObservationWebFilterChainDecorator.class + ".observed";
+
+	private static final ServerWebExchangeMatcher ANY_EXCHANGE = ServerWebExchangeMatchers.anyExchange();
+
+	private static final DefaultWebFilterChainDecorator UNOBSERVED = new DefaultWebFilterChainDecorator();
+
 	static final String UNSECURED_OBSERVATION_NAME = "spring.security.http.unsecured.requests";
 
 	static final String SECURED_OBSERVATION_NAME = "spring.security.http.secured.requests";
 
 	private final ObservationRegistry registry;
 
+	private Granularity granularity = Granularity.FILTERS;
+
+	private ServerWebExchangeMatcher observationMatcher = ANY_EXCHANGE;
+
 	public ObservationWebFilterChainDecorator(ObservationRegistry registry) {
 		this.registry = registry;
 	}
 
 	@Override
 	public WebFilterChain decorate(WebFilterChain original) {
+		if (this.registry.isNoop()) {
+			return original;
+		}
 		return wrapUnsecured(original);
 	}
 
 	@Override
 	public WebFilterChain decorate(WebFilterChain original, List<WebFilter> filters) {
+		if (this.registry.isNoop()) {
+			return UNOBSERVED.decorate(original, filters);
+		}
+		if (this.granularity == Granularity.CHAIN) {
+			return UNOBSERVED.decorate(wrapSecured(original), filters);
+		}
 		return new ObservationWebFilterChain(wrapSecured(original)::filter, wrap(filters));
 	}
 
+	/**
+	 * Sets the level of detail to observe. Defaults to {@link Granularity#FILTERS}.
+	 * @param granularity the {@link Granularity} to use
+	 * @since 6.2
+	 */
+	public void setGranularity(Granularity granularity) {
+		Assert.notNull(granularity, "granularity cannot be null");
+		this.granularity = granularity;
+	}
+
+	/**
+	 * Sets the {@link ServerWebExchangeMatcher} deciding which exchanges are observed.
+	 * The decision is made once per exchange and applies to all observations of that
+	 * exchange. Defaults to observing every exchange.
+	 * @param observationMatcher the {@link ServerWebExchangeMatcher} to use
+	 * @since 6.2
+	 */
+	public void setObservationMatcher(ServerWebExchangeMatcher observationMatcher) {
+		Assert.notNull(observationMatcher, "observationMatcher cannot be null");
+		this.observationMatcher = observationMatcher;
+	}
+
 	private static AroundWebFilterObservation observation(ServerWebExchange exchange) {
 		return exchange.getAttribute(ATTRIBUTE);
 	}
 
+	private static Mono<Boolean> isObserved(ServerWebExchange exchange, ServerWebExchangeMatcher observationMatcher) {
+		Boolean observed = exchange.getAttribute(OBSERVED_ATTRIBUTE);
+		if (observed != null) {
+			return Mono.just(observed);
+		}
+		return observationMatcher.matches(exchange)
+			.map(ServerWebExchangeMatcher.MatchResult::isMatch)
+			.defaultIfEmpty(false)
+			.doOnNext((isMatch) -> exchange.getAttributes().put(OBSERVED_ATTRIBUTE, isMatch));
+	}
+
+	private WebFilterChain sampled(WebFilterChain observed, WebFilterChain unobserved) {
+		ServerWebExchangeMatcher observationMatcher = this.observationMatcher;
+		if (observationMatcher == ANY_EXCHANGE) {
+			return observed;
+		}
+		return (exchange) -> isObserved(exchange, observationMatcher)
+			.flatMap((match) -> (match) ? observed.filter(exchange) : unobserved.filter(exchange));
+	}
+
 	private WebFilterChain wrapSecured(WebFilterChain original) {
-		return (exchange) -> Mono.deferContextual((contextView) -> {
-			AroundWebFilterObservation parent = observation(exchange);
+		return sampled((exchange) -> Mono.deferContextual((contextView) -> {
 			Observation parentObservation = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
 			Observation observation = Observation.createNotStarted(SECURED_OBSERVATION_NAME, this.registry)
 				.contextualName("secured request")
 				.parentObservation(parentObservation);
-			return parent.wrap(WebFilterObservation.create(observation).wrap(original)).filter(exchange);
-		});
+			WebFilterChain chain = WebFilterObservation.create(observation).wrap(original);
+			AroundWebFilterObservation parent = observation(exchange);
+			return ((parent != null) ? parent.wrap(chain) : chain).filter(exchange);
+		}), original);
 	}
 
 	private WebFilterChain wrapUnsecured(WebFilterChain original) {
-		return (exchange) -> Mono.deferContextual((contextView) -> {
+		return sampled((exchange) -> Mono.deferContextual((contextView) -> {
 			Observation parentObservation = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
 			Observation observation = Observation.createNotStarted(UNSECURED_OBSERVATION_NAME, this.registry)
 				.contextualName("unsecured request")
 				.parentObservation(parentObservation);
 			return WebFilterObservation.create(observation).wrap(original).filter(exchange);
-		});
+		}), original);
 	}
 
 	private List<ObservationWebFilter> wrap(List<WebFilter> filters) {
 		int size = filters.size();
-		List<ObservationWebFilter> observableFilters = new ArrayList<>();
+		boolean recordFilters = this.granularity == Granularity.FILTERS;
+		List<ObservationWebFilter> observableFilters = new ArrayList<>(size);
 		int position = 1;
 		for (WebFilter filter : filters) {
-			observableFilters.add(new ObservationWebFilter(this.registry, filter, position, size));
+			observableFilters.add(new ObservationWebFilter(this.registry, filter, position, size, recordFilters,
+					this.observationMatcher));
 			position++;
 		}
 		return observableFilters;
 	}
 
+	/**
+	 * The level of detail observed by an {@link ObservationWebFilterChainDecorator}.
+	 *
+	 * @since 6.2
+	 */
+	public enum Granularity {
+
+		/**
+		 * Only observe secured and unsecured requests as a whole
+		 */
+		CHAIN,
+
+		/**
+		 * Additionally observe the sections of the security filter chain before and after
+		 * the secured request
+		 */
+		SECTIONS,
+
+		/**
+		 * Additionally record the last filter reached in each section
+		 */
+		FILTERS
+
+	}
+
 	static class ObservationWebFilterChain implements WebFilterChain {
 
 		private final WebHandler handler;
@@ -179,12 +277,19 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 
 		private final int size;
 
-		ObservationWebFilter(ObservationRegistry registry, WebFilter filter, int position, int size) {
+		private final boolean recordFilters;
+
+		private final ServerWebExchangeMatcher observationMatcher;
+
+		ObservationWebFilter(ObservationRegistry registry, WebFilter filter, int position, int size,
+				boolean recordFilters, ServerWebExchangeMatcher observationMatcher) {
 			this.registry = registry;
 			this.filter = filter;
 			this.name = filter.getClass().getSimpleName();
 			this.position = position;
 			this.size = size;
+			this.recordFilters = recordFilters;
+			this.observationMatcher = observationMatcher;
 		}
 
 		String getName() {
@@ -194,10 +299,15 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 		@Override
 		public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
 			if (this.position == 1) {
-				return Mono.deferContextual((contextView) -> {
-					Observation parentObservation = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
-					AroundWebFilterObservation parent = parent(exchange, parentObservation);
-					return parent.wrap(this::wrapFilter).filter(exchange, chain);
+				if (this.observationMatcher == ANY_EXCHANGE) {
+					return observe(exchange, chain);
+				}
+				return isObserved(exchange, this.observationMatcher).flatMap((observed) -> {
+					if (observed) {
+						return observe(exchange, chain);
+					}
+					exchange.getAttributes().put(ATTRIBUTE, AroundWebFilterObservation.NOOP);
+					return this.filter.filter(exchange, chain);
 				});
 			}
 			else {
@@ -205,8 +315,22 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 			}
 		}
 
+		private Mono<Void> observe(ServerWebExchange exchange, WebFilterChain chain) {
+			return Mono.deferContextual((contextView) -> {
+				Observation parentObservation = contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+				AroundWebFilterObservation parent = parent(exchange, parentObservation);
+				return parent.wrap(this::wrapFilter).filter(exchange, chain);
+			});
+		}
+
 		private Mono<Void> wrapFilter(ServerWebExchange exchange, WebFilterChain chain) {
 			AroundWebFilterObservation parent = observation(exchange);
+			if (parent == AroundWebFilterObservation.NOOP) {
+				return this.filter.filter(exchange, chain);
+			}
+			if (!this.recordFilters) {
+				return this.filter.filter(exchange, chain).doOnSuccess((result) -> parent.start());
+			}
 			if (parent.before().getContext() instanceof WebFilterChainObservationContext parentBefore) {
 				parentBefore.setChainSize(this.size);
 				parentBefore.setFilterName(this.name);
@@ -225,6 +349,8 @@ public final class ObservationWebFilterChainDecorator implements WebFilterChainP
 		private AroundWebFilterObservation parent(ServerWebExchange exchange, Observation parentObservation) {
 			WebFilterChainObservationContext beforeContext = WebFilterChainObservationContext.before();
 			WebFilterChainObservationContext afterContext = WebFilterChainObservationContext.after();
+			beforeContext.setChainSize(this.size);
+			afterContext.setChainSize(this.size);
 			Observation before = Observation.createNotStarted(this.convention, () -> beforeContext, this.registry)
 				.parentObservation(parentObservation);
 			Observation after = Observation.createNotStarted(this.convention, () -> afterContext, this.registry)
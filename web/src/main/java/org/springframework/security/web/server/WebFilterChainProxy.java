@@ -21,10 +21,12 @@ import java.util.Collections;
 import java.util.List;
 
 import jakarta.servlet.FilterChain;
+import reactor.core.Fuseable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
 import org.springframework.util.Assert;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
@@ -53,8 +55,58 @@ public class WebFilterChainProxy implements WebFilter {
 
 	@Override
 	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
-		return Flux.fromIterable(this.filters)
-			.filterWhen((securityWebFilterChain) -> securityWebFilterChain.matches(exchange))
+		return Mono.defer(() -> doFilter(exchange, chain));
+	}
+
+	private Mono<Void> doFilter(ServerWebExchange exchange, WebFilterChain chain) {
+		// Most chains are MatcherSecurityWebFilterChains whose matchers complete
+		// synchronously, so select the chain without building a reactive pipeline until
+		// one that does not is found
+		for (int i = 0; i < this.filters.size(); i++) {
+			SecurityWebFilterChain securityWebFilterChain = this.filters.get(i);
+			if (securityWebFilterChain.getClass() != MatcherSecurityWebFilterChain.class) {
+				return filter(exchange, chain, Mono.empty(), i);
+			}
+			MatcherSecurityWebFilterChain matcherChain = (MatcherSecurityWebFilterChain) securityWebFilterChain;
+			Mono<MatchResult> matches = matcherChain.getMatcher().matches(exchange);
+			MatchResult result = getIfAvailable(matches);
+			if (result == null) {
+				return filter(exchange, chain, matched(matches, matcherChain), i + 1);
+			}
+			if (result.isMatch()) {
+				return this.filterChainDecorator.decorate(chain, matcherChain.getFilters()).filter(exchange);
+			}
+		}
+		return this.filterChainDecorator.decorate(chain).filter(exchange);
+	}
+
+	/**
+	 * Returns the {@link MatchResult} if the matcher completed synchronously, or
+	 * {@code null} if it is only available, or an empty result or error only signalled,
+	 * by subscribing.
+	 */
+	private static MatchResult getIfAvailable(Mono<MatchResult> matches) {
+		if (matches instanceof Fuseable.ScalarCallable<?> scalar) {
+			try {
+				return (MatchResult) scalar.call();
+			}
+			catch (Exception ex) {
+				// let the error be signalled by subscribing to the result
+			}
+		}
+		return null;
+	}
+
+	private static Mono<SecurityWebFilterChain> matched(Mono<MatchResult> matches,
+			SecurityWebFilterChain securityWebFilterChain) {
+		return matches.filter(MatchResult::isMatch).map((result) -> securityWebFilterChain);
+	}
+
+	private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, Mono<SecurityWebFilterChain> matched,
+			int next) {
+		Flux<SecurityWebFilterChain> remaining = Flux.fromIterable(this.filters.subList(next, this.filters.size()))
+			.filterWhen((securityWebFilterChain) -> securityWebFilterChain.matches(exchange));
+		return matched.concatWith(remaining)
 			.next()
 			.switchIfEmpty(
 					Mono.defer(() -> this.filterChainDecorator.decorate(chain).filter(exchange).then(Mono.empty())))
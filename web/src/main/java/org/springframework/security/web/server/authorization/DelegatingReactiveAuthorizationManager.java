@@ -18,10 +18,11 @@ package org.springframework.security.web.server.authorization;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import reactor.core.publisher.Flux;
+import reactor.core.Fuseable;
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.log.LogMessage;
@@ -50,19 +51,56 @@ public final class DelegatingReactiveAuthorizationManager implements ReactiveAut
 
 	@Override
 	public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, ServerWebExchange exchange) {
-		return Flux.fromIterable(this.mappings)
-			.concatMap((mapping) -> mapping.getMatcher()
-				.matches(exchange)
-				.filter(MatchResult::isMatch)
-				.map(MatchResult::getVariables)
-				.flatMap((variables) -> {
-					logger.debug(LogMessage.of(() -> "Checking authorization on '"
-							+ exchange.getRequest().getPath().pathWithinApplication() + "' using "
-							+ mapping.getEntry()));
-					return mapping.getEntry().check(authentication, new AuthorizationContext(exchange, variables));
-				}))
-			.next()
-			.defaultIfEmpty(new AuthorizationDecision(false));
+		return Mono.defer(() -> check(authentication, exchange, 0));
+	}
+
+	private Mono<AuthorizationDecision> check(Mono<Authentication> authentication, ServerWebExchange exchange,
+			int from) {
+		// Most matchers complete synchronously, so evaluate them in a plain loop and only
+		// subscribe to the ones that do not
+		for (int i = from; i < this.mappings.size(); i++) {
+			ServerWebExchangeMatcherEntry<ReactiveAuthorizationManager<AuthorizationContext>> mapping = this.mappings
+				.get(i);
+			int next = i + 1;
+			Mono<MatchResult> matches = mapping.getMatcher().matches(exchange);
+			MatchResult result = getIfAvailable(matches);
+			if (result == null) {
+				return matches.filter(MatchResult::isMatch)
+					.map(MatchResult::getVariables)
+					.flatMap((variables) -> check(mapping, authentication, exchange, variables))
+					.switchIfEmpty(Mono.defer(() -> check(authentication, exchange, next)));
+			}
+			if (result.isMatch()) {
+				return check(mapping, authentication, exchange, result.getVariables())
+					.switchIfEmpty(Mono.defer(() -> check(authentication, exchange, next)));
+			}
+		}
+		return Mono.just(new AuthorizationDecision(false));
+	}
+
+	/**
+	 * Returns the {@link MatchResult} if the matcher completed synchronously, or
+	 * {@code null} if it is only available, or an empty result or error only signalled,
+	 * by subscribing.
+	 */
+	private static MatchResult getIfAvailable(Mono<MatchResult> matches) {
+		if (matches instanceof Fuseable.ScalarCallable<?> scalar) {
+			try {
+				return (MatchResult) scalar.call();
+			}
+			catch (Exception ex) {
+				// let the error be signalled by subscribing to the result
+			}
+		}
+		return null;
+	}
+
+	private Mono<AuthorizationDecision> check(
+			ServerWebExchangeMatcherEntry<ReactiveAuthorizationManager<AuthorizationContext>> mapping,
+			Mono<Authentication> authentication, ServerWebExchange exchange, Map<String, Object> variables) {
+		logger.debug(LogMessage.of(() -> "Checking authorization on '"
+				+ exchange.getRequest().getPath().pathWithinApplication() + "' using " + mapping.getEntry()));
+		return mapping.getEntry().check(authentication, new AuthorizationContext(exchange, variables));
 	}
 
 	public static DelegatingReactiveAuthorizationManager.Builder builder() {
@@ -53,9 +53,34 @@ public class OrServerWebExchangeMatcher implements ServerWebExchangeMatcher {
 
 	@Override
 	public Mono<MatchResult> matches(ServerWebExchange exchange) {
-		return Flux.fromIterable(this.matchers)
+		return Mono.defer(() -> evaluate(exchange));
+	}
+
+	private Mono<MatchResult> evaluate(ServerWebExchange exchange) {
+		// Most matchers complete synchronously, so evaluate them without building a
+		// reactive pipeline until one that does not is found
+		for (int i = 0; i < this.matchers.size(); i++) {
+			ServerWebExchangeMatcher matcher = this.matchers.get(i);
+			logger.debug(LogMessage.format("Trying to match using %s", matcher));
+			Mono<MatchResult> matches = matcher.matches(exchange);
+			MatchResult result = SynchronousMatchResults.getIfAvailable(matches);
+			if (result == null) {
+				return matches(exchange, matches, i + 1);
+			}
+			if (result.isMatch()) {
+				logger.debug("matched");
+				return matches;
+			}
+		}
+		logger.debug("No matches found");
+		return MatchResult.notMatch();
+	}
+
+	private Mono<MatchResult> matches(ServerWebExchange exchange, Mono<MatchResult> current, int next) {
+		Flux<MatchResult> remaining = Flux.fromIterable(this.matchers.subList(next, this.matchers.size()))
 			.doOnNext((matcher) -> logger.debug(LogMessage.format("Trying to match using %s", matcher)))
-			.flatMap((matcher) -> matcher.matches(exchange))
+			.flatMap((matcher) -> matcher.matches(exchange));
+		return current.mergeWith(remaining)
 			.filter(MatchResult::isMatch)
 			.next()
 			.switchIfEmpty(MatchResult.notMatch())
@@ -76,22 +76,22 @@ public final class PathPatternParserServerWebExchangeMatcher implements ServerWe
 	public Mono<MatchResult> matches(ServerWebExchange exchange) {
 		ServerHttpRequest request = exchange.getRequest();
 		PathContainer path = request.getPath().pathWithinApplication();
+		// the result is returned as is, so that callers can detect that it completes
+		// synchronously
 		if (this.method != null && !this.method.equals(request.getMethod())) {
-			return MatchResult.notMatch().doOnNext((result) -> {
-				if (logger.isDebugEnabled()) {
-					logger.debug("Request '" + request.getMethod() + " " + path + "' doesn't match '" + this.method
-							+ " " + this.pattern.getPatternString() + "'");
-				}
-			});
+			if (logger.isDebugEnabled()) {
+				logger.debug("Request '" + request.getMethod() + " " + path + "' doesn't match '" + this.method + " "
+						+ this.pattern.getPatternString() + "'");
+			}
+			return MatchResult.notMatch();
 		}
 		boolean match = this.pattern.matches(path);
 		if (!match) {
-			return MatchResult.notMatch().doOnNext((result) -> {
-				if (logger.isDebugEnabled()) {
-					logger.debug("Request '" + request.getMethod() + " " + path + "' doesn't match '" + this.method
-							+ " " + this.pattern.getPatternString() + "'");
-				}
-			});
+			if (logger.isDebugEnabled()) {
+				logger.debug("Request '" + request.getMethod() + " " + path + "' doesn't match '" + this.method + " "
+						+ this.pattern.getPatternString() + "'");
+			}
+			return MatchResult.notMatch();
 		}
 		Map<String, String> pathVariables = this.pattern.matchAndExtract(path).getUriVariables();
 		Map<String, Object> variables = new HashMap<>(pathVariables);
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.server.util.matcher;
+
+import reactor.core.Fuseable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+
+/**
+ * Reads the {@link MatchResult} of a {@link ServerWebExchangeMatcher} without
+ * subscribing when the matcher completed synchronously, as most matchers do. This lets
+ * callers evaluating many matchers loop over them instead of building a reactive
+ * pipeline.
+ *
+ * @since 6.2
+ */
+final class SynchronousMatchResults {
+
+	private static final MatchResult NOT_MATCH = MatchResult.notMatch().block();
+
+	private SynchronousMatchResults() {
+	}
+
+	/**
+	 * Returns the {@link MatchResult} emitted by the given {@link Mono} if it is
+	 * available without subscribing. An empty {@link Mono} is treated as not a match.
+	 * @param matches the result of {@link ServerWebExchangeMatcher#matches}
+	 * @return the {@link MatchResult}, or {@code null} if the result, or an error, is
+	 * only available by subscribing to {@code matches}
+	 */
+	static MatchResult getIfAvailable(Mono<MatchResult> matches) {
+		if (!(matches instanceof Fuseable.ScalarCallable<?> scalar)) {
+			return null;
+		}
+		try {
+			Object result = scalar.call();
+			return (result != null) ? (MatchResult) result : NOT_MATCH;
+		}
+		catch (Exception ex) {
+			// let the error be signalled by subscribing to the result
+			return null;
+		}
+	}
+
+}
@@ -17,6 +17,7 @@
 package org.springframework.security.web.session;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 import jakarta.servlet.FilterChain;
@@ -81,6 +82,8 @@ public class ConcurrentSessionFilter extends GenericFilterBean {
 
 	private SessionInformationExpiredStrategy sessionInformationExpiredStrategy;
 
+	private long lastRequestRefreshIntervalMillis;
+
 	public ConcurrentSessionFilter(SessionRegistry sessionRegistry) {
 		Assert.notNull(sessionRegistry, "SessionRegistry required");
 		this.sessionRegistry = sessionRegistry;
@@ -145,12 +148,22 @@ public class ConcurrentSessionFilter extends GenericFilterBean {
 					return;
 				}
 				// Non-expired - update last request date/time
-				this.sessionRegistry.refreshLastRequest(info.getSessionId());
+				if (requiresLastRequestRefresh(info)) {
+					this.sessionRegistry.refreshLastRequest(info.getSessionId());
+				}
 			}
 		}
 		chain.doFilter(request, response);
 	}
 
+	private boolean requiresLastRequestRefresh(SessionInformation info) {
+		if (this.lastRequestRefreshIntervalMillis == 0) {
+			return true;
+		}
+		long lastRequest = info.getLastRequest().getTime();
+		return System.currentTimeMillis() - lastRequest >= this.lastRequestRefreshIntervalMillis;
+	}
+
 	/**
 	 * Determine the URL for expiration
 	 * @param request the HttpServletRequest
@@ -195,6 +208,23 @@ public class ConcurrentSessionFilter extends GenericFilterBean {
 		this.handlers = new CompositeLogoutHandler(handlers);
 	}
 
+	/**
+	 * Sets the granularity with which the last request time of a session is refreshed.
+	 * When set, {@link SessionRegistry#refreshLastRequest(String)} is only invoked when
+	 * the session's last request time is at least this long ago, which avoids a write per
+	 * request with a persistent {@link SessionRegistry}. Expired sessions are still
+	 * detected on every request. The default is {@link Duration#ZERO}, which refreshes
+	 * the last request time on every request.
+	 * @param lastRequestRefreshInterval the minimum time between two refreshes of the
+	 * last request time of a session
+	 * @since 6.2
+	 */
+	public void setLastRequestRefreshInterval(Duration lastRequestRefreshInterval) {
+		Assert.notNull(lastRequestRefreshInterval, "lastRequestRefreshInterval cannot be null");
+		Assert.isTrue(!lastRequestRefreshInterval.isNegative(), "lastRequestRefreshInterval cannot be negative");
+		this.lastRequestRefreshIntervalMillis = lastRequestRefreshInterval.toMillis();
+	}
+
 	/**
 	 * Sets the {@link RedirectStrategy} used with
 	 * {@link #ConcurrentSessionFilter(SessionRegistry, String)}
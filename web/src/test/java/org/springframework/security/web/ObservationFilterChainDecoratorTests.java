@@ -36,6 +36,7 @@ import org.mockito.ArgumentCaptor;
 
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -43,6 +44,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -132,6 +134,64 @@ public class ObservationFilterChainDecoratorTests {
 		verify(handler).onScopeClosed(any());
 	}
 
+	@Test
+	void decorateWhenNoHandlersThenReturnsOriginalChain() {
+		ObservationFilterChainDecorator decorator = new ObservationFilterChainDecorator(ObservationRegistry.create());
+		FilterChain chain = mock(FilterChain.class);
+		assertThat(decorator.decorate(chain)).isSameAs(chain);
+	}
+
+	@Test
+	void decorateFiltersWhenChainGranularityThenObservesOnlySecuredRequest() throws Exception {
+		ObservationHandler<Observation.Context> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationFilterChainDecorator decorator = new ObservationFilterChainDecorator(registry);
+		decorator.setGranularity(ObservationFilterChainDecorator.Granularity.CHAIN);
+		FilterChain chain = mock(FilterChain.class);
+		FilterChain decorated = decorator.decorate(chain, List.of(new BasicAuthenticationFilter()));
+		decorated.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+		ArgumentCaptor<Observation.Context> context = ArgumentCaptor.forClass(Observation.Context.class);
+		verify(handler).onStart(context.capture());
+		assertThat(context.getValue().getName()).isEqualTo(ObservationFilterChainDecorator.SECURED_OBSERVATION_NAME);
+		verify(handler, never()).onEvent(any(), any());
+		verify(chain).doFilter(any(), any());
+	}
+
+	@Test
+	void decorateFiltersWhenSectionsGranularityThenDoesNotRecordEvents() throws Exception {
+		ObservationHandler<?> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationFilterChainDecorator decorator = new ObservationFilterChainDecorator(registry);
+		decorator.setGranularity(ObservationFilterChainDecorator.Granularity.SECTIONS);
+		FilterChain chain = mock(FilterChain.class);
+		Filter filter = mock(Filter.class);
+		FilterChain decorated = decorator.decorate(chain, List.of(filter));
+		decorated.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+		verify(handler, times(2)).onStart(any());
+		verify(handler, never()).onEvent(any(), any());
+	}
+
+	@Test
+	void decorateFiltersWhenRequestNotObservedThenDoesNotObserve() throws Exception {
+		ObservationHandler<?> handler = mock(ObservationHandler.class);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationFilterChainDecorator decorator = new ObservationFilterChainDecorator(registry);
+		RequestMatcher observationRequestMatcher = mock(RequestMatcher.class);
+		decorator.setObservationRequestMatcher(observationRequestMatcher);
+		FilterChain chain = mock(FilterChain.class);
+		FilterChain decorated = decorator.decorate(chain,
+				List.of(new BasicAuthenticationFilter(), new BasicAuthenticationFilter()));
+		decorated.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+		verify(observationRequestMatcher).matches(any());
+		verify(chain).doFilter(any(), any());
+		verifyNoInteractions(handler);
+	}
+
 	@ParameterizedTest
 	@MethodSource("decorateFiltersWhenCompletesThenHasSpringSecurityReachedFilterNameTag")
 	void decorateFiltersWhenCompletesThenHasSpringSecurityReachedFilterNameTag(Filter filter,
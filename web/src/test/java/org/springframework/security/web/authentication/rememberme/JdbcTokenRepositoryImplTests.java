@@ -164,6 +164,19 @@ public class JdbcTokenRepositoryImplTests {
 		assertThat(lastUsed.getTime() > ts.getTime()).isTrue();
 	}
 
+	@Test
+	public void removeTokensLastUsedBeforeDeletesOnlyStaleTokens() {
+		this.template.execute("insert into persistent_logins (series, username, token, last_used) values "
+				+ "('joesseries', 'joeuser', 'atoken', '2007-10-09 18:19:25.000000000')");
+		this.template.execute("insert into persistent_logins (series, username, token, last_used) values "
+				+ "('bobsseries', 'bobuser', 'atoken', '2007-10-19 18:19:25.000000000')");
+		int removed = this.repo.removeTokensLastUsedBefore(Timestamp.valueOf("2007-10-19 00:00:00.000000000"));
+		assertThat(removed).isEqualTo(1);
+		List<Map<String, Object>> results = this.template.queryForList("select * from persistent_logins");
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0)).containsEntry("series", "bobsseries");
+	}
+
 	@Test
 	public void createTableOnStartupCreatesCorrectTable() {
 		this.template.execute("drop table persistent_logins");
@@ -16,6 +16,7 @@
 
 package org.springframework.security.web.authentication.rememberme;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
@@ -30,6 +31,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * @author Luke Taylor
@@ -99,6 +101,46 @@ public class PersistentTokenBasedRememberMeServicesTests {
 		assertThat(cookie[1]).isEqualTo(this.repo.getStoredToken().getTokenValue());
 	}
 
+	@Test
+	public void autoLoginWithinRotationIntervalDoesNotUpdateToken() {
+		PersistentRememberMeToken token = new PersistentRememberMeToken("joe", "series", "token", new Date());
+		this.services = create(token);
+		this.services.setTokenRotationInterval(Duration.ofMinutes(5));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.services.processAutoLoginCookie(new String[] { "series", "token" }, new MockHttpServletRequest(),
+				response);
+		assertThat(this.repo.getStoredToken()).isSameAs(token);
+		assertThat(response.getCookie("mycookiename")).isNull();
+	}
+
+	@Test
+	public void autoLoginAfterRotationIntervalUpdatesToken() {
+		this.services = create(new PersistentRememberMeToken("joe", "series", "token",
+				new Date(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10))));
+		this.services.setTokenRotationInterval(Duration.ofMinutes(5));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.services.processAutoLoginCookie(new String[] { "series", "token" }, new MockHttpServletRequest(),
+				response);
+		assertThat(this.repo.getStoredToken().getTokenValue()).isNotEqualTo("token");
+		String[] cookie = this.services.decodeCookie(response.getCookie("mycookiename").getValue());
+		assertThat(cookie[1]).isEqualTo(this.repo.getStoredToken().getTokenValue());
+	}
+
+	@Test
+	public void cookieTheftIsDetectedWithinRotationInterval() {
+		this.services = create(new PersistentRememberMeToken("joe", "series", "wrongtoken", new Date()));
+		this.services.setTokenRotationInterval(Duration.ofMinutes(5));
+		assertThatExceptionOfType(CookieTheftException.class)
+			.isThrownBy(() -> this.services.processAutoLoginCookie(new String[] { "series", "token" },
+					new MockHttpServletRequest(), new MockHttpServletResponse()));
+	}
+
+	@Test
+	public void setTokenRotationIntervalWhenNegativeThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.services.setTokenRotationInterval(Duration.ofSeconds(-1)));
+	}
+
 	@Test
 	public void loginSuccessCreatesNewTokenAndCookieWithNewSeries() {
 		this.services = create(null);
@@ -16,6 +16,7 @@
 
 package org.springframework.security.web.concurrent;
 
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 
@@ -49,6 +50,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -159,6 +161,60 @@ public class ConcurrentSessionFilterTests {
 		assertThat(registry.getSessionInformation(session.getId()).getLastRequest().after(lastRequest)).isTrue();
 	}
 
+	@Test
+	public void doFilterWhenLastRequestWithinRefreshIntervalThenNotRefreshed() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpSession session = new MockHttpSession();
+		request.setSession(session);
+		SessionRegistry registry = mock(SessionRegistry.class);
+		SessionInformation information = new SessionInformation("user", session.getId(), new Date());
+		given(registry.getSessionInformation(session.getId())).willReturn(information);
+		ConcurrentSessionFilter filter = new ConcurrentSessionFilter(registry);
+		filter.setLastRequestRefreshInterval(Duration.ofMinutes(1));
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, new MockHttpServletResponse(), chain);
+		assertThat(chain.getRequest()).isNotNull();
+		verify(registry, never()).refreshLastRequest(anyString());
+	}
+
+	@Test
+	public void doFilterWhenLastRequestOutsideRefreshIntervalThenRefreshed() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpSession session = new MockHttpSession();
+		request.setSession(session);
+		SessionRegistry registry = mock(SessionRegistry.class);
+		SessionInformation information = new SessionInformation("user", session.getId(),
+				new Date(System.currentTimeMillis() - Duration.ofMinutes(2).toMillis()));
+		given(registry.getSessionInformation(session.getId())).willReturn(information);
+		ConcurrentSessionFilter filter = new ConcurrentSessionFilter(registry);
+		filter.setLastRequestRefreshInterval(Duration.ofMinutes(1));
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		verify(registry).refreshLastRequest(session.getId());
+	}
+
+	@Test
+	public void doFilterWhenExpiredWithinRefreshIntervalThenExpiredDetected() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpSession session = new MockHttpSession();
+		request.setSession(session);
+		SessionRegistry registry = mock(SessionRegistry.class);
+		SessionInformation information = new SessionInformation("user", session.getId(), new Date());
+		information.expireNow();
+		given(registry.getSessionInformation(session.getId())).willReturn(information);
+		ConcurrentSessionFilter filter = new ConcurrentSessionFilter(registry);
+		filter.setLastRequestRefreshInterval(Duration.ofMinutes(1));
+		FilterChain chain = mock(FilterChain.class);
+		filter.doFilter(request, new MockHttpServletResponse(), chain);
+		verifyNoMoreInteractions(chain);
+	}
+
+	@Test
+	public void setLastRequestRefreshIntervalWhenNegativeThenException() {
+		ConcurrentSessionFilter filter = new ConcurrentSessionFilter(new SessionRegistryImpl());
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> filter.setLastRequestRefreshInterval(Duration.ofSeconds(-1)));
+	}
+
 	@Test
 	public void doFilterWhenNoSessionThenChainIsContinued() throws Exception {
 		MockHttpServletRequest request = new MockHttpServletRequest();
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.csrf;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link HmacCsrfTokenRepository}.
+ */
+public class HmacCsrfTokenRepositoryTests {
+
+	private static final SecretKey KEY = key("0123456789abcdef0123456789abcdef");
+
+	private static final SecretKey PREVIOUS_KEY = key("fedcba9876543210fedcba9876543210");
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	private HmacCsrfTokenRepository repo;
+
+	@BeforeEach
+	public void setup() {
+		this.request = new MockHttpServletRequest();
+		this.response = new MockHttpServletResponse();
+		this.repo = new HmacCsrfTokenRepository(KEY);
+	}
+
+	@Test
+	public void constructorWhenKeysEmptyThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new HmacCsrfTokenRepository(Collections.emptyList()));
+	}
+
+	@Test
+	public void generateTokenThenLoadTokenWhenPresentedReturnsSameToken() {
+		CsrfToken token = generateAndSaveToken();
+		assertThat(token.getParameterName()).isEqualTo("_csrf");
+		assertThat(token.getHeaderName()).isEqualTo("X-CSRF-TOKEN");
+		assertThat(token.getToken()).isNotEmpty();
+		assertThat(this.repo.loadToken(presenting(token.getToken())).getToken()).isEqualTo(token.getToken());
+	}
+
+	@Test
+	public void saveTokenWhenNoBindingThenBindingCookieWritten() {
+		generateAndSaveToken();
+		Cookie binding = this.response.getCookie("CSRF-BINDING");
+		assertThat(binding).isNotNull();
+		assertThat(binding.getValue()).isNotEmpty();
+		assertThat(binding.isHttpOnly()).isTrue();
+		assertThat(binding.getPath()).isEqualTo("/");
+		assertThat(this.request.getSession(false)).isNull();
+	}
+
+	@Test
+	public void saveTokenWhenBindingCookiePresentThenNoCookieWritten() {
+		generateAndSaveToken();
+		MockHttpServletRequest request = presenting(null);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CsrfToken token = this.repo.generateToken(request);
+		this.repo.saveToken(token, request, response);
+		assertThat(response.getCookies()).isEmpty();
+		assertThat(this.repo.loadToken(presenting(token.getToken()))).isNotNull();
+	}
+
+	@Test
+	public void loadTokenWhenNoTokenPresentedThenNull() {
+		generateAndSaveToken();
+		assertThat(this.repo.loadToken(presenting(null))).isNull();
+	}
+
+	@Test
+	public void loadTokenWhenNoBindingCookieThenNull() {
+		String token = generateAndSaveToken().getToken();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("X-CSRF-TOKEN", token);
+		assertThat(this.repo.loadToken(request)).isNull();
+	}
+
+	@Test
+	public void loadTokenWhenIssuedForDifferentBindingThenNull() {
+		String token = generateAndSaveToken().getToken();
+		MockHttpServletRequest request = presenting(token);
+		request.setCookies(new Cookie("CSRF-BINDING", "other"));
+		assertThat(this.repo.loadToken(request)).isNull();
+	}
+
+	@Test
+	public void saveTokenWhenNullThenBindingCookieRemovedAndTokensRejected() {
+		String token = generateAndSaveToken().getToken();
+		MockHttpServletRequest request = presenting(token);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.repo.saveToken(null, request, response);
+		assertThat(response.getCookie("CSRF-BINDING").getMaxAge()).isZero();
+		assertThat(this.repo.loadToken(request)).isNull();
+		CsrfToken newToken = this.repo.generateToken(request);
+		this.repo.saveToken(newToken, request, response);
+		String newBinding = response.getCookies()[1].getValue();
+		assertThat(newBinding).isNotEmpty().isNotEqualTo(this.response.getCookie("CSRF-BINDING").getValue());
+	}
+
+	@Test
+	public void loadTokenWhenPresentedMaskedThenReturnsUnmaskedToken() {
+		CsrfToken token = generateAndSaveToken();
+		XorCsrfTokenRequestAttributeHandler handler = new XorCsrfTokenRequestAttributeHandler();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		handler.handle(request, this.response, () -> token);
+		String masked = ((CsrfToken) request.getAttribute(CsrfToken.class.getName())).getToken();
+		assertThat(masked).isNotEqualTo(token.getToken());
+		MockHttpServletRequest presenting = presenting(masked);
+		CsrfToken loaded = this.repo.loadToken(presenting);
+		assertThat(loaded.getToken()).isEqualTo(token.getToken());
+		assertThat(handler.resolveCsrfTokenValue(presenting, loaded)).isEqualTo(token.getToken());
+	}
+
+	@Test
+	public void loadTokenWhenExpiredThenNull() {
+		Instant now = Instant.parse("2023-07-01T10:00:00Z");
+		this.repo.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.repo.setTokenValidity(Duration.ofMinutes(10));
+		String token = generateAndSaveToken().getToken();
+		this.repo.setClock(Clock.fixed(now.plus(Duration.ofMinutes(9)), ZoneOffset.UTC));
+		assertThat(this.repo.loadToken(presenting(token))).isNotNull();
+		this.repo.setClock(Clock.fixed(now.plus(Duration.ofMinutes(10)), ZoneOffset.UTC));
+		assertThat(this.repo.loadToken(presenting(token))).isNull();
+	}
+
+	@Test
+	public void loadTokenWhenTamperedThenNull() {
+		String token = generateAndSaveToken().getToken();
+		String tampered = ((token.charAt(0) == 'A') ? "B" : "A") + token.substring(1);
+		assertThat(this.repo.loadToken(presenting(tampered))).isNull();
+		assertThat(this.repo.loadToken(presenting("invalid!"))).isNull();
+	}
+
+	@Test
+	public void generateTokenWhenCustomBindingThenUsesBindingAndNoCookie() {
+		this.repo.setTokenBindingResolver((request) -> request.getHeader("X-Binding"));
+		this.request.addHeader("X-Binding", "a");
+		CsrfToken token = this.repo.generateToken(this.request);
+		this.repo.saveToken(token, this.request, this.response);
+		assertThat(this.response.getCookies()).isEmpty();
+		MockHttpServletRequest same = presenting(token.getToken());
+		same.addHeader("X-Binding", "a");
+		MockHttpServletRequest other = presenting(token.getToken());
+		other.addHeader("X-Binding", "b");
+		assertThat(this.repo.loadToken(same)).isNotNull();
+		assertThat(this.repo.loadToken(other)).isNull();
+	}
+
+	@Test
+	public void generateTokenWhenCustomBindingUnavailableThenTokenNeverAccepted() {
+		this.repo.setTokenBindingResolver((request) -> request.getHeader("X-Binding"));
+		String token = this.repo.generateToken(this.request).getToken();
+		assertThat(this.repo.loadToken(presenting(token))).isNull();
+	}
+
+	@Test
+	public void loadTokenWhenPresentedTokenFromPreviousKeyThenReturnsPresentedToken() {
+		HmacCsrfTokenRepository previous = new HmacCsrfTokenRepository(PREVIOUS_KEY);
+		String previousToken = generateAndSaveToken(previous).getToken();
+		this.repo = new HmacCsrfTokenRepository(List.of(KEY, PREVIOUS_KEY));
+		assertThat(this.repo.loadToken(presenting(previousToken)).getToken()).isEqualTo(previousToken);
+	}
+
+	@Test
+	public void loadTokenWhenPresentedTokenFromUnknownKeyThenNull() {
+		HmacCsrfTokenRepository previous = new HmacCsrfTokenRepository(PREVIOUS_KEY);
+		String previousToken = generateAndSaveToken(previous).getToken();
+		assertThat(this.repo.loadToken(presenting(previousToken))).isNull();
+	}
+
+	@Test
+	public void setTokenBindingResolverWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repo.setTokenBindingResolver(null));
+	}
+
+	@Test
+	public void setTokenValidityWhenZeroThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.repo.setTokenValidity(Duration.ZERO));
+	}
+
+	private CsrfToken generateAndSaveToken() {
+		return generateAndSaveToken(this.repo);
+	}
+
+	private CsrfToken generateAndSaveToken(HmacCsrfTokenRepository repo) {
+		CsrfToken token = repo.generateToken(this.request);
+		repo.saveToken(token, this.request, this.response);
+		return token;
+	}
+
+	private MockHttpServletRequest presenting(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (token != null) {
+			request.addHeader("X-CSRF-TOKEN", token);
+		}
+		Cookie binding = this.response.getCookie("CSRF-BINDING");
+		if (binding != null) {
+			request.setCookies(binding);
+		}
+		return request;
+	}
+
+	private static SecretKey key(String value) {
+		return new SecretKeySpec(value.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+	}
+
+}
@@ -33,6 +33,7 @@ import reactor.core.publisher.Mono;
 
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -126,6 +127,86 @@ public class ObservationWebFilterChainDecoratorTests {
 		handler.assertSpanStop(9, "http");
 	}
 
+	@Test
+	void decorateWhenNoHandlersThenReturnsOriginalChain() {
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(
+				ObservationRegistry.create());
+		WebFilterChain chain = mock(WebFilterChain.class);
+		assertThat(decorator.decorate(chain)).isSameAs(chain);
+	}
+
+	@Test
+	void decorateFiltersWhenChainGranularityThenObservesOnlySecuredRequest() {
+		ObservationHandler<Observation.Context> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(registry);
+		decorator.setGranularity(ObservationWebFilterChainDecorator.Granularity.CHAIN);
+		WebFilterChain chain = mock(WebFilterChain.class);
+		given(chain.filter(any())).willReturn(Mono.empty());
+		WebFilterChain decorated = decorator.decorate(chain, List.of(new BasicAuthenticationFilter()));
+		decorated.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build())).block();
+		ArgumentCaptor<Observation.Context> context = ArgumentCaptor.forClass(Observation.Context.class);
+		verify(handler).onStart(context.capture());
+		assertThat(context.getValue().getName())
+			.isEqualTo(ObservationWebFilterChainDecorator.SECURED_OBSERVATION_NAME);
+		verify(chain).filter(any());
+	}
+
+	@Test
+	void decorateFiltersWhenSectionsGranularityThenDoesNotRecordFilterName() {
+		ObservationHandler<Observation.Context> handler = mock(ObservationHandler.class);
+		given(handler.supportsContext(any())).willReturn(true);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(registry);
+		decorator.setGranularity(ObservationWebFilterChainDecorator.Granularity.SECTIONS);
+		WebFilterChain chain = mock(WebFilterChain.class);
+		given(chain.filter(any())).willReturn(Mono.empty());
+		WebFilterChain decorated = decorator.decorate(chain, List.of(new BasicAuthenticationFilter()));
+		decorated.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build())).block();
+		ArgumentCaptor<Observation.Context> context = ArgumentCaptor.forClass(Observation.Context.class);
+		verify(handler, times(3)).onStop(context.capture());
+		assertThat(context.getValue().getLowCardinalityKeyValue("spring.security.reached.filter.name").getValue())
+			.isEqualTo("none");
+	}
+
+	@Test
+	void decorateFiltersWhenExchangeNotObservedThenDoesNotObserve() {
+		ObservationHandler<?> handler = mock(ObservationHandler.class);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(registry);
+		ServerWebExchangeMatcher observationMatcher = mock(ServerWebExchangeMatcher.class);
+		given(observationMatcher.matches(any())).willReturn(ServerWebExchangeMatcher.MatchResult.notMatch());
+		decorator.setObservationMatcher(observationMatcher);
+		WebFilterChain chain = mock(WebFilterChain.class);
+		given(chain.filter(any())).willReturn(Mono.empty());
+		WebFilterChain decorated = decorator.decorate(chain,
+				List.of(new BasicAuthenticationFilter(), new BasicAuthenticationFilter()));
+		decorated.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build())).block();
+		verify(observationMatcher).matches(any());
+		verify(chain).filter(any());
+		verifyNoInteractions(handler);
+	}
+
+	@Test
+	void decorateFiltersWhenObservationMatcherEmptyThenNotObservedAndChainInvoked() {
+		ObservationHandler<?> handler = mock(ObservationHandler.class);
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(handler);
+		ObservationWebFilterChainDecorator decorator = new ObservationWebFilterChainDecorator(registry);
+		decorator.setObservationMatcher((exchange) -> Mono.empty());
+		WebFilterChain chain = mock(WebFilterChain.class);
+		given(chain.filter(any())).willReturn(Mono.empty());
+		WebFilterChain decorated = decorator.decorate(chain,
+				List.of(new BasicAuthenticationFilter(), new BasicAuthenticationFilter()));
+		decorated.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build())).block();
+		verify(chain).filter(any());
+		verifyNoInteractions(handler);
+	}
+
 	@ParameterizedTest
 	@MethodSource("decorateFiltersWhenCompletesThenHasSpringSecurityReachedFilterNameTagArguments")
 	void decorateFiltersWhenCompletesThenHasSpringSecurityReachedFilterNameTag(WebFilter filter,
@@ -25,7 +25,9 @@ import io.micrometer.observation.ObservationHandler;
 import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
@@ -71,6 +73,52 @@ public class WebFilterChainProxyTests {
 			.isNotFound();
 	}
 
+	@Test
+	public void filterWhenAsynchronousMatcherThenMatchesReactively() {
+		ServerWebExchangeMatcher notMatch = (exchange) -> Mono.defer(MatchResult::notMatch);
+		ServerWebExchangeMatcher match = (exchange) -> Mono.defer(MatchResult::match);
+		WebFilterChainProxy filter = new WebFilterChainProxy(
+				new MatcherSecurityWebFilterChain(notMatch, Arrays.asList(new PassthroughWebFilter())),
+				new MatcherSecurityWebFilterChain(match, Arrays.asList(new Http200WebFilter())));
+		WebTestClient.bindToController(new Object())
+			.webFilter(filter)
+			.build()
+			.get()
+			.exchange()
+			.expectStatus()
+			.isForbidden();
+	}
+
+	@Test
+	public void filterWhenMatcherDependsOnContextThenMatchesWithSubscriberContext() {
+		ServerWebExchangeMatcher contextual = (exchange) -> Mono.deferContextual(
+				(context) -> context.hasKey("secured") ? MatchResult.match() : MatchResult.notMatch());
+		WebFilterChainProxy filter = new WebFilterChainProxy(
+				new MatcherSecurityWebFilterChain(contextual, Arrays.asList(new Http200WebFilter())));
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		Mono<Void> result = filter.filter(exchange, (e) -> Mono.empty());
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		result.contextWrite(Context.of("secured", true)).block();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+	}
+
+	@Test
+	public void filterWhenSynchronousMatcherBeforeCustomChainThenCustomChainMatchedReactively() {
+		ServerWebExchangeMatcher notMatch = (exchange) -> MatchResult.notMatch();
+		SecurityWebFilterChain custom = mock(SecurityWebFilterChain.class);
+		given(custom.matches(any())).willReturn(Mono.just(true));
+		given(custom.getWebFilters()).willReturn(Flux.just(new Http200WebFilter()));
+		WebFilterChainProxy filter = new WebFilterChainProxy(
+				new MatcherSecurityWebFilterChain(notMatch, Arrays.asList(new PassthroughWebFilter())), custom);
+		WebTestClient.bindToController(new Object())
+			.webFilter(filter)
+			.build()
+			.get()
+			.exchange()
+			.expectStatus()
+			.isForbidden();
+	}
+
 	@Test
 	public void doFilterWhenMatchesThenObservationRegistryObserves() {
 		ObservationHandler<Observation.Context> handler = mock(ObservationHandler.class);
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -35,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
@@ -95,4 +97,45 @@ public class DelegatingReactiveAuthorizationManagerTests {
 		verifyNoMoreInteractions(this.delegate1);
 	}
 
+	@Test
+	public void checkWhenFirstMatchesAndAbstainsThenSecondDelegateInvoked() {
+		given(this.match1.matches(any())).willReturn(ServerWebExchangeMatcher.MatchResult.match());
+		given(this.match2.matches(any())).willReturn(ServerWebExchangeMatcher.MatchResult.match());
+		given(this.delegate1.check(eq(this.authentication), any(AuthorizationContext.class))).willReturn(Mono.empty());
+		given(this.delegate2.check(eq(this.authentication), any(AuthorizationContext.class)))
+			.willReturn(Mono.just(this.decision));
+		assertThat(this.manager.check(this.authentication, this.exchange).block()).isEqualTo(this.decision);
+	}
+
+	@Test
+	public void checkWhenAsynchronousMatcherThenMatchedReactively() {
+		given(this.match1.matches(any())).willReturn(Mono.defer(ServerWebExchangeMatcher.MatchResult::notMatch));
+		given(this.match2.matches(any())).willReturn(Mono.defer(ServerWebExchangeMatcher.MatchResult::match));
+		given(this.delegate2.check(eq(this.authentication), any(AuthorizationContext.class)))
+			.willReturn(Mono.just(this.decision));
+		assertThat(this.manager.check(this.authentication, this.exchange).block()).isEqualTo(this.decision);
+		verifyNoMoreInteractions(this.delegate1);
+	}
+
+	@Test
+	public void checkWhenMatcherDependsOnContextThenMatchedWithSubscriberContext() {
+		Mono<ServerWebExchangeMatcher.MatchResult> contextual = Mono.deferContextual((context) -> context.hasKey("foo")
+				? ServerWebExchangeMatcher.MatchResult.match() : ServerWebExchangeMatcher.MatchResult.notMatch());
+		given(this.match1.matches(any())).willReturn(contextual);
+		given(this.delegate1.check(eq(this.authentication), any(AuthorizationContext.class)))
+			.willReturn(Mono.just(this.decision));
+		Mono<AuthorizationDecision> result = this.manager.check(this.authentication, this.exchange);
+		verifyNoInteractions(this.match1);
+		assertThat(result.contextWrite(Context.of("foo", "bar")).block()).isEqualTo(this.decision);
+		verifyNoMoreInteractions(this.match2, this.delegate2);
+	}
+
+	@Test
+	public void checkWhenNoneMatchThenDenied() {
+		given(this.match1.matches(any())).willReturn(ServerWebExchangeMatcher.MatchResult.notMatch());
+		given(this.match2.matches(any())).willReturn(ServerWebExchangeMatcher.MatchResult.notMatch());
+		assertThat(this.manager.check(this.authentication, this.exchange).block().isGranted()).isFalse();
+		verifyNoMoreInteractions(this.delegate1, this.delegate2);
+	}
+
 }
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import org.springframework.web.server.ServerWebExchange;
 
@@ -55,6 +57,20 @@ public class OrServerWebExchangeMatcherTests {
 		this.matcher = new OrServerWebExchangeMatcher(this.matcher1, this.matcher2);
 	}
 
+	@Test
+	public void matchesWhenMatcherDependsOnContextThenMatchesWithSubscriberContext() {
+		Map<String, Object> params = Collections.singletonMap("foo", "bar");
+		given(this.matcher1.matches(this.exchange)).willReturn(ServerWebExchangeMatcher.MatchResult.notMatch());
+		Mono<ServerWebExchangeMatcher.MatchResult> contextual = Mono.deferContextual((context) -> context.hasKey("foo")
+				? ServerWebExchangeMatcher.MatchResult.match(params) : ServerWebExchangeMatcher.MatchResult.notMatch());
+		given(this.matcher2.matches(this.exchange)).willReturn(contextual);
+		Mono<ServerWebExchangeMatcher.MatchResult> result = this.matcher.matches(this.exchange);
+		verify(this.matcher1, never()).matches(this.exchange);
+		ServerWebExchangeMatcher.MatchResult matches = result.contextWrite(Context.of("foo", "bar")).block();
+		assertThat(matches.isMatch()).isTrue();
+		assertThat(matches.getVariables()).isEqualTo(params);
+	}
+
 	@Test
 	public void matchesWhenFalseFalseThenFalse() {
 		given(this.matcher1.matches(this.exchange)).willReturn(ServerWebExchangeMatcher.MatchResult.notMatch());
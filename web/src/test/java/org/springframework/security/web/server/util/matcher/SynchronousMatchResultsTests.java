@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.security.web.server.util.matcher;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher.MatchResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SynchronousMatchResults}.
+ */
+public class SynchronousMatchResultsTests {
+
+	@Test
+	public void getIfAvailableWhenMatchThenMatchResult() {
+		MatchResult result = SynchronousMatchResults.getIfAvailable(MatchResult.match(Map.of("id", "1")));
+		assertThat(result.isMatch()).isTrue();
+		assertThat(result.getVariables()).containsEntry("id", "1");
+	}
+
+	@Test
+	public void getIfAvailableWhenEmptyThenNotMatch() {
+		assertThat(SynchronousMatchResults.getIfAvailable(Mono.empty()).isMatch()).isFalse();
+	}
+
+	@Test
+	public void getIfAvailableWhenErrorThenNull() {
+		assertThat(SynchronousMatchResults.getIfAvailable(Mono.error(new IllegalStateException()))).isNull();
+	}
+
+	@Test
+	public void getIfAvailableWhenAsynchronousThenNull() {
+		assertThat(SynchronousMatchResults.getIfAvailable(MatchResult.match().delayElement(Duration.ofMillis(1))))
+			.isNull();
+	}
+
+}